@@ -0,0 +1,50 @@
+package com.webfluxclient.benchmark;
+
+public class Account {
+    private Long id;
+    private String owner;
+    private String status;
+    private Long balance;
+
+    public Account() {
+    }
+
+    public Account(Long id, String owner, String status, Long balance) {
+        this.id = id;
+        this.owner = owner;
+        this.status = status;
+        this.balance = balance;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getBalance() {
+        return balance;
+    }
+
+    public void setBalance(Long balance) {
+        this.balance = balance;
+    }
+}
@@ -0,0 +1,38 @@
+package com.webfluxclient.benchmark;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RequestMapping("/tenants/{tenantId}")
+public interface AccountClient {
+
+    @GetMapping("/accounts/{accountId}/transactions/{transactionId}")
+    Mono<Account> getTransaction(@PathVariable("tenantId") String tenantId,
+                                 @PathVariable("accountId") Long accountId,
+                                 @PathVariable("transactionId") String transactionId,
+                                 @RequestParam("fields") List<String> fields,
+                                 @RequestParam("expand") Boolean expand,
+                                 @RequestHeader("X-Request-Id") String requestId,
+                                 @RequestHeader("Authorization") String authorization,
+                                 @RequestHeader("Accept-Language") String acceptLanguage);
+
+    @GetMapping("/accounts")
+    Flux<Account> getAccounts(@PathVariable("tenantId") String tenantId,
+                              @RequestParam("status") List<String> statuses,
+                              @RequestParam("limit") Integer limit,
+                              @RequestHeader("X-Request-Id") String requestId);
+
+    @PostMapping("/accounts")
+    Mono<Account> createAccount(@PathVariable("tenantId") String tenantId,
+                                @RequestHeader("X-Request-Id") String requestId,
+                                @RequestBody Account account);
+}
@@ -0,0 +1,40 @@
+package com.webfluxclient.benchmark;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunctions;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+final class ClientResponses {
+
+    private ClientResponses() {
+    }
+
+    static ClientResponse of(HttpStatus httpStatus) {
+        ClientHttpConnector connector = (method, uri, requestCallback) -> Mono.just(new MockClientHttpResponse(httpStatus));
+        return exchange(connector);
+    }
+
+    static ClientResponse of(HttpStatus httpStatus, String jsonBody) {
+        ClientHttpConnector connector = (method, uri, requestCallback) -> {
+            MockClientHttpResponse response = new MockClientHttpResponse(httpStatus);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON_UTF8);
+            response.setBody(jsonBody);
+            return Mono.just(response);
+        };
+        return exchange(connector);
+    }
+
+    private static ClientResponse exchange(ClientHttpConnector connector) {
+        return ExchangeFunctions.create(connector)
+                .exchange(ClientRequest.method(HttpMethod.GET, URI.create("http://localhost")).build())
+                .block();
+    }
+}
@@ -0,0 +1,116 @@
+package com.webfluxclient.benchmark;
+
+import com.webfluxclient.ClientBuilder;
+import com.webfluxclient.metrics.LatencyRecorder;
+import com.webfluxclient.metrics.LatencySnapshot;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Throughput and latency of the same calls sent through a client proxy and through hand-written {@link WebClient} code,
+ * against a local {@link StubServer} at a fixed concurrency.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.webfluxclient.benchmark.EndToEndBenchmark [concurrency] [warmupSeconds] [measurementSeconds]
+ * </pre>
+ */
+public class EndToEndBenchmark {
+
+    public static void main(String[] args) {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        Duration warmup = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 10);
+        Duration measurement = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+        try (StubServer stubServer = StubServer.start()) {
+            AccountClient accountClient = ClientBuilder.builder().build(AccountClient.class, stubServer.getUri());
+            WebClient webClient = WebClient.create(stubServer.getUri().toString());
+
+            Map<String, Supplier<Mono<?>>> scenarios = new LinkedHashMap<>();
+            scenarios.put("proxy     getTransaction", () -> getTransaction(accountClient));
+            scenarios.put("webClient getTransaction", () -> getTransaction(webClient));
+            scenarios.put("proxy     getAccounts", () -> getAccounts(accountClient));
+            scenarios.put("webClient getAccounts", () -> getAccounts(webClient));
+
+            System.out.printf("concurrency=%d warmup=%ss measurement=%ss%n", concurrency, warmup.getSeconds(), measurement.getSeconds());
+            System.out.printf("%-26s %12s %10s %10s %10s%n", "scenario", "ops/s", "p50 us", "p99 us", "p99.9 us");
+            scenarios.forEach((name, call) -> {
+                run(call, concurrency, warmup, new LatencyRecorder());
+                LatencyRecorder latencyRecorder = new LatencyRecorder();
+                run(call, concurrency, measurement, latencyRecorder);
+                LatencySnapshot latency = latencyRecorder.intervalSnapshot();
+                System.out.printf("%-26s %12.0f %10d %10d %10d%n",
+                        name,
+                        latency.getCount() / (double) measurement.getSeconds(),
+                        TimeUnit.NANOSECONDS.toMicros(latency.getValueAtPercentile(50)),
+                        TimeUnit.NANOSECONDS.toMicros(latency.getValueAtPercentile(99)),
+                        TimeUnit.NANOSECONDS.toMicros(latency.getValueAtPercentile(99.9)));
+            });
+        }
+    }
+
+    private static void run(Supplier<Mono<?>> call, int concurrency, Duration duration, LatencyRecorder latencyRecorder) {
+        Flux.range(0, Integer.MAX_VALUE)
+                .flatMap(i -> Mono.defer(() -> {
+                    long startNanos = System.nanoTime();
+                    return call.get().doOnSuccess(value -> latencyRecorder.record(System.nanoTime() - startNanos));
+                }), concurrency)
+                .take(duration)
+                .blockLast();
+    }
+
+    private static Mono<Account> getTransaction(AccountClient accountClient) {
+        return accountClient.getTransaction(
+                (String) Arguments.GET_TRANSACTION[0],
+                (Long) Arguments.GET_TRANSACTION[1],
+                (String) Arguments.GET_TRANSACTION[2],
+                Arguments.fields(),
+                (Boolean) Arguments.GET_TRANSACTION[4],
+                (String) Arguments.GET_TRANSACTION[5],
+                (String) Arguments.GET_TRANSACTION[6],
+                (String) Arguments.GET_TRANSACTION[7]);
+    }
+
+    private static Mono<Account> getTransaction(WebClient webClient) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/tenants/{tenantId}/accounts/{accountId}/transactions/{transactionId}")
+                        .queryParam("fields", Arguments.fields().toArray())
+                        .queryParam("expand", Arguments.GET_TRANSACTION[4])
+                        .build(Arguments.GET_TRANSACTION[0], Arguments.GET_TRANSACTION[1], Arguments.GET_TRANSACTION[2]))
+                .header("X-Request-Id", (String) Arguments.GET_TRANSACTION[5])
+                .header("Authorization", (String) Arguments.GET_TRANSACTION[6])
+                .header("Accept-Language", (String) Arguments.GET_TRANSACTION[7])
+                .retrieve()
+                .bodyToMono(Account.class);
+    }
+
+    private static Mono<List<Account>> getAccounts(AccountClient accountClient) {
+        return accountClient.getAccounts(
+                (String) Arguments.GET_ACCOUNTS[0],
+                Arguments.statuses(),
+                (Integer) Arguments.GET_ACCOUNTS[2],
+                (String) Arguments.GET_ACCOUNTS[3])
+                .collectList();
+    }
+
+    private static Mono<List<Account>> getAccounts(WebClient webClient) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/tenants/{tenantId}/accounts")
+                        .queryParam("status", Arguments.statuses().toArray())
+                        .queryParam("limit", Arguments.GET_ACCOUNTS[2])
+                        .build(Arguments.GET_ACCOUNTS[0]))
+                .header("X-Request-Id", (String) Arguments.GET_ACCOUNTS[3])
+                .retrieve()
+                .bodyToFlux(Account.class)
+                .collectList();
+    }
+}
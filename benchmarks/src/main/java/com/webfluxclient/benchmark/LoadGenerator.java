@@ -0,0 +1,194 @@
+package com.webfluxclient.benchmark;
+
+import com.webfluxclient.metrics.LatencyRecorder;
+import com.webfluxclient.metrics.LatencySnapshot;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-loop load generator for a client built by {@link com.webfluxclient.ClientBuilder}.
+ * Calls are issued at a fixed arrival rate whatever the response times are, rotating over the registered methods.
+ * The latency is measured from the time a call was scheduled to start, so a late generator or a queueing client
+ * shows up in the latency instead of silently lowering the load.
+ */
+public class LoadGenerator<T> {
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final T client;
+    private final List<MethodLoad> methodLoads;
+
+    private LoadGenerator(T client) {
+        this.client = client;
+        this.methodLoads = new ArrayList<>();
+    }
+
+    public static <T> LoadGenerator<T> of(T client) {
+        return new LoadGenerator<>(client);
+    }
+
+    /**
+     * Add a method to the calls issued.
+     *
+     * @param methodName The name of a method of the client interface.
+     * @param arguments The generator of the arguments of each call.
+     * @return this generator
+     */
+    public LoadGenerator<T> call(String methodName, Supplier<Object[]> arguments) {
+        Method method = Arrays.stream(client.getClass().getInterfaces())
+                .flatMap(type -> Arrays.stream(type.getMethods()))
+                .filter(candidate -> candidate.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown client method " + methodName));
+        methodLoads.add(new MethodLoad(method, arguments));
+        return this;
+    }
+
+    /**
+     * Issue the calls, the calls scheduled during the warmup aren't reported.
+     *
+     * @param callsPerSecond The arrival rate, shared by all the methods.
+     * @param warmup The duration of the warmup.
+     * @param steadyState The duration of the measurement.
+     * @return the report of the steady state
+     */
+    public Report run(double callsPerSecond, Duration warmup, Duration steadyState) {
+        if (methodLoads.isEmpty()) {
+            throw new IllegalStateException("No client method to call");
+        }
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / callsPerSecond);
+        long startNanos = System.nanoTime();
+        long steadyStateNanos = startNanos + warmup.toNanos();
+        long endNanos = steadyStateNanos + steadyState.toNanos();
+        AtomicInteger inFlight = new AtomicInteger();
+        long maxLagNanos = 0;
+
+        for (long call = 0; ; call++) {
+            long intendedNanos = startNanos + call * intervalNanos;
+            if (intendedNanos >= endNanos) {
+                break;
+            }
+            long now;
+            while ((now = System.nanoTime()) < intendedNanos) {
+                LockSupport.parkNanos(intendedNanos - now);
+            }
+            if (intendedNanos >= steadyStateNanos) {
+                maxLagNanos = Math.max(maxLagNanos, now - intendedNanos);
+            }
+            MethodLoad methodLoad = methodLoads.get((int) (call % methodLoads.size()));
+            inFlight.incrementAndGet();
+            methodLoad.issue(client, intendedNanos, intendedNanos >= steadyStateNanos, inFlight);
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        return new Report(methodLoads, callsPerSecond, steadyState, maxLagNanos, inFlight.get());
+    }
+
+    private static class MethodLoad {
+        private final Method method;
+        private final Supplier<Object[]> arguments;
+        private final LatencyRecorder latencyRecorder;
+        private final LongAdder errors;
+
+        MethodLoad(Method method, Supplier<Object[]> arguments) {
+            this.method = method;
+            this.arguments = arguments;
+            this.latencyRecorder = new LatencyRecorder();
+            this.errors = new LongAdder();
+        }
+
+        void issue(Object client, long intendedNanos, boolean measured, AtomicInteger inFlight) {
+            Object[] args = arguments.get();
+            Mono<?> call = Publisher.class.isAssignableFrom(method.getReturnType()) ?
+                    Flux.defer(() -> {
+                        try {
+                            return (Publisher<?>) invoke(client, args);
+                        }
+                        catch (Exception e) {
+                            return Mono.error(e);
+                        }
+                    }).then() :
+                    Mono.fromCallable(() -> invoke(client, args)).subscribeOn(Schedulers.elastic());
+            call.subscribe(
+                    value -> { },
+                    throwable -> {
+                        inFlight.decrementAndGet();
+                        if (measured) {
+                            errors.increment();
+                        }
+                    },
+                    () -> {
+                        inFlight.decrementAndGet();
+                        if (measured) {
+                            latencyRecorder.record(System.nanoTime() - intendedNanos);
+                        }
+                    });
+        }
+
+        private Object invoke(Object client, Object[] args) throws Exception {
+            try {
+                return method.invoke(client, args);
+            }
+            catch (InvocationTargetException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+        }
+    }
+
+    public static class Report {
+        private final List<MethodLoad> methodLoads;
+        private final List<LatencySnapshot> latencies;
+        private final double callsPerSecond;
+        private final Duration steadyState;
+        private final long maxLagNanos;
+        private final int unfinishedCalls;
+
+        private Report(List<MethodLoad> methodLoads, double callsPerSecond, Duration steadyState, long maxLagNanos, int unfinishedCalls) {
+            this.methodLoads = methodLoads;
+            this.latencies = new ArrayList<>();
+            for (MethodLoad methodLoad : methodLoads) {
+                latencies.add(methodLoad.latencyRecorder.intervalSnapshot());
+            }
+            this.callsPerSecond = callsPerSecond;
+            this.steadyState = steadyState;
+            this.maxLagNanos = maxLagNanos;
+            this.unfinishedCalls = unfinishedCalls;
+        }
+
+        public void print(PrintStream out) {
+            out.printf("target=%.0f calls/s steadyState=%ss maxGeneratorLag=%dus unfinished=%d%n",
+                    callsPerSecond, steadyState.getSeconds(), TimeUnit.NANOSECONDS.toMicros(maxLagNanos), unfinishedCalls);
+            out.printf("%-24s %10s %8s %10s %10s %10s %10s %10s%n", "method", "calls/s", "errors", "p50 us", "p90 us", "p99 us", "p99.9 us", "max us");
+            for (int i = 0; i < methodLoads.size(); i++) {
+                MethodLoad methodLoad = methodLoads.get(i);
+                LatencySnapshot latency = latencies.get(i);
+                out.printf("%-24s %10.0f %8d %10d %10d %10d %10d %10d%n",
+                        methodLoad.method.getName(),
+                        latency.getCount() / (steadyState.toNanos() / (double) TimeUnit.SECONDS.toNanos(1)),
+                        methodLoad.errors.sum(),
+                        TimeUnit.NANOSECONDS.toMicros(latency.getValueAtPercentile(50)),
+                        TimeUnit.NANOSECONDS.toMicros(latency.getValueAtPercentile(90)),
+                        TimeUnit.NANOSECONDS.toMicros(latency.getValueAtPercentile(99)),
+                        TimeUnit.NANOSECONDS.toMicros(latency.getValueAtPercentile(99.9)),
+                        TimeUnit.NANOSECONDS.toMicros(latency.getMax()));
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.webfluxclient.benchmark;
+
+import com.webfluxclient.metrics.ClientMetrics;
+import com.webfluxclient.metrics.LatencyRecorder;
+import com.webfluxclient.metrics.MethodMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the per-method metrics, compared with the same exchange without metrics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+    private LatencyRecorder latencyRecorder;
+    private MethodMetrics methodMetrics;
+    private Mono<ClientResponse> exchange;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        latencyRecorder = new LatencyRecorder();
+        methodMetrics = ClientMetrics.create().methodMetrics(Object.class.getMethod("toString"));
+        exchange = Mono.just(ClientResponses.of(HttpStatus.OK));
+    }
+
+    @Benchmark
+    public void latencyRecorder() {
+        latencyRecorder.record(ThreadLocalRandom.current().nextLong(1_000_000_000L));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void latencyRecorder_contended() {
+        latencyRecorder.record(ThreadLocalRandom.current().nextLong(1_000_000_000L));
+    }
+
+    @Benchmark
+    public ClientResponse exchange_withoutMetrics() {
+        return exchange.block();
+    }
+
+    @Benchmark
+    public ClientResponse exchange_withMetrics() {
+        return methodMetrics.record(exchange).block();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ClientResponse exchange_withMetrics_contended() {
+        return methodMetrics.record(exchange).block();
+    }
+}
@@ -0,0 +1,31 @@
+package com.webfluxclient.benchmark;
+
+import com.webfluxclient.ClientBuilder;
+
+import java.time.Duration;
+
+/**
+ * Open-loop load on a local {@link StubServer} through a client proxy.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.webfluxclient.benchmark.OpenLoopBenchmark [callsPerSecond] [warmupSeconds] [steadyStateSeconds]
+ * </pre>
+ */
+public class OpenLoopBenchmark {
+
+    public static void main(String[] args) {
+        double callsPerSecond = args.length > 0 ? Double.parseDouble(args[0]) : 5_000;
+        Duration warmup = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 10);
+        Duration steadyState = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 60);
+
+        try (StubServer stubServer = StubServer.start()) {
+            AccountClient accountClient = ClientBuilder.builder().build(AccountClient.class, stubServer.getUri());
+            LoadGenerator.of(accountClient)
+                    .call("getTransaction", () -> Arguments.GET_TRANSACTION)
+                    .call("getAccounts", () -> Arguments.GET_ACCOUNTS)
+                    .call("createAccount", () -> Arguments.CREATE_ACCOUNT)
+                    .run(callsPerSecond, warmup, steadyState)
+                    .print(System.out);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.webfluxclient.benchmark;
+
+/**
+ * Canned JSON bodies of the {@link AccountClient} responses.
+ */
+final class Payloads {
+    static final String ACCOUNT = "{\"id\":42,\"owner\":\"Wile E. Coyote\",\"status\":\"OPEN\",\"balance\":1200}";
+    static final String ACCOUNTS = "[" + String.join(",", ACCOUNT, ACCOUNT, ACCOUNT, ACCOUNT, ACCOUNT, ACCOUNT, ACCOUNT, ACCOUNT, ACCOUNT, ACCOUNT) + "]";
+
+    private Payloads() {
+    }
+}
@@ -0,0 +1,84 @@
+package com.webfluxclient.benchmark;
+
+import com.webfluxclient.ClientBuilder;
+import com.webfluxclient.handler.ClientMethodHandler;
+import com.webfluxclient.handler.DefaultReactiveInvocationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a call on a client proxy. The returned publishers aren't subscribed, so no request is sent:
+ * {@code dispatch} only goes through the proxy and the {@link DefaultReactiveInvocationHandler},
+ * the other benchmarks also build the request and assemble the exchange.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyDispatchBenchmark {
+    private AccountClient dispatchOnlyClient;
+    private AccountClient accountClient;
+
+    @Setup
+    public void setup() {
+        Map<Method, ClientMethodHandler> invocationDispatcher = new HashMap<>();
+        for (Method method : AccountClient.class.getMethods()) {
+            invocationDispatcher.put(method, args -> Mono.empty());
+        }
+        dispatchOnlyClient = (AccountClient) Proxy.newProxyInstance(
+                AccountClient.class.getClassLoader(),
+                new Class<?>[]{AccountClient.class},
+                new DefaultReactiveInvocationHandler(invocationDispatcher));
+        accountClient = ClientBuilder.builder().build(AccountClient.class, Arguments.BASE_URI);
+    }
+
+    @Benchmark
+    public Mono<Account> dispatch() {
+        return dispatchOnlyClient.getTransaction((String) Arguments.GET_TRANSACTION[0], (Long) Arguments.GET_TRANSACTION[1], (String) Arguments.GET_TRANSACTION[2], Arguments.fields(), (Boolean) Arguments.GET_TRANSACTION[4], (String) Arguments.GET_TRANSACTION[5], (String) Arguments.GET_TRANSACTION[6], (String) Arguments.GET_TRANSACTION[7]);
+    }
+
+    @Benchmark
+    public Mono<Account> getTransaction() {
+        return accountClient.getTransaction((String) Arguments.GET_TRANSACTION[0], (Long) Arguments.GET_TRANSACTION[1], (String) Arguments.GET_TRANSACTION[2], Arguments.fields(), (Boolean) Arguments.GET_TRANSACTION[4], (String) Arguments.GET_TRANSACTION[5], (String) Arguments.GET_TRANSACTION[6], (String) Arguments.GET_TRANSACTION[7]);
+    }
+
+    @Benchmark
+    public Flux<Account> getAccounts() {
+        return accountClient.getAccounts((String) Arguments.GET_ACCOUNTS[0], Arguments.statuses(), (Integer) Arguments.GET_ACCOUNTS[2], (String) Arguments.GET_ACCOUNTS[3]);
+    }
+
+    @Benchmark
+    public Mono<Account> createAccount() {
+        return accountClient.createAccount((String) Arguments.CREATE_ACCOUNT[0], (String) Arguments.CREATE_ACCOUNT[1], (Account) Arguments.CREATE_ACCOUNT[2]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProxyDispatchBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,93 @@
+package com.webfluxclient.benchmark;
+
+import com.webfluxclient.metadata.request.Request;
+import com.webfluxclient.metadata.request.RequestHeaders;
+import com.webfluxclient.metadata.request.RequestTemplate;
+import com.webfluxclient.metadata.request.encoding.ParameterEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpHeaders;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request building hot path of a call with three path variables, two query parameters and three headers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBuildingBenchmark {
+    private RequestTemplate requestTemplate;
+    private RequestHeaders requestHeaders;
+    private ParameterEncoder defaultParameterEncoder;
+    private ParameterEncoder urlParameterEncoder;
+    private Request request;
+
+    @Setup
+    public void setup() {
+        requestTemplate = Arguments.methodMetadata("getTransaction").getRequestTemplate();
+        requestHeaders = requestTemplate.getRequestHeaders();
+        defaultParameterEncoder = ParameterEncoder.create(false);
+        urlParameterEncoder = ParameterEncoder.create(true);
+        request = requestTemplate.apply(Arguments.GET_TRANSACTION);
+    }
+
+    @Benchmark
+    public Request requestTemplate_apply() {
+        return requestTemplate.apply(Arguments.GET_TRANSACTION);
+    }
+
+    @Benchmark
+    public HttpHeaders requestHeaders_encode() {
+        return requestHeaders.encode(Arguments.GET_TRANSACTION);
+    }
+
+    @Benchmark
+    public Map<String, List<String>> defaultParameterEncoder_convertToListOfString() {
+        return defaultParameterEncoder.convertToListOfString(requestHeaders.getIndexToName(), Arguments.GET_TRANSACTION);
+    }
+
+    @Benchmark
+    public Map<String, List<String>> urlParameterEncoder_convertToListOfString() {
+        return urlParameterEncoder.convertToListOfString(requestHeaders.getIndexToName(), Arguments.GET_TRANSACTION);
+    }
+
+    /**
+     * The variables of the request are converted on the first expansion, the following ones only build the URI.
+     */
+    @Benchmark
+    public URI defaultRequest_expand() {
+        return request.expand();
+    }
+
+    @Benchmark
+    public URI requestTemplate_applyAndExpand() {
+        return requestTemplate.apply(Arguments.GET_TRANSACTION).expand();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RequestBuildingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
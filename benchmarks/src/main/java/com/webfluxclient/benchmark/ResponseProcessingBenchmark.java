@@ -0,0 +1,82 @@
+package com.webfluxclient.benchmark;
+
+import com.webfluxclient.client.DefaultResponseBodyProcessor;
+import com.webfluxclient.client.ResponseBodyProcessor;
+import com.webfluxclient.codec.ExtendedClientCodecConfigurer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response processing of {@link DefaultResponseBodyProcessor}: the assembly of the returned publisher alone,
+ * and the decoding of JSON bodies. A new response is created for every decoding, its cost is measured by {@link #clientResponse()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseProcessingBenchmark {
+    private ResponseBodyProcessor responseBodyProcessor;
+    private ResolvableType monoType;
+    private ResolvableType fluxType;
+    private Mono<ClientResponse> monoResponse;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        responseBodyProcessor = new DefaultResponseBodyProcessor(ExtendedClientCodecConfigurer.create().getErrorReaders());
+        monoType = ResolvableType.forMethodReturnType(AccountClient.class.getMethod("getTransaction", String.class, Long.class, String.class, List.class, Boolean.class, String.class, String.class, String.class));
+        fluxType = ResolvableType.forMethodReturnType(AccountClient.class.getMethod("getAccounts", String.class, List.class, Integer.class, String.class));
+        monoResponse = Mono.just(ClientResponses.of(HttpStatus.OK));
+    }
+
+    @Benchmark
+    public Object process_assembly() {
+        return responseBodyProcessor.process(monoResponse, monoType, null);
+    }
+
+    @Benchmark
+    public ClientResponse clientResponse() {
+        return ClientResponses.of(HttpStatus.OK, Payloads.ACCOUNT);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Account process_mono() {
+        return ((Mono<Account>) responseBodyProcessor.process(Mono.just(ClientResponses.of(HttpStatus.OK, Payloads.ACCOUNT)), monoType, null)).block();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<Account> process_flux() {
+        return ((Flux<Account>) responseBodyProcessor.process(Mono.just(ClientResponses.of(HttpStatus.OK, Payloads.ACCOUNTS)), fluxType, null)).collectList().block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResponseProcessingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,47 @@
+package com.webfluxclient.benchmark;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Mono;
+import reactor.ipc.netty.NettyContext;
+import reactor.ipc.netty.http.server.HttpServer;
+
+import java.net.URI;
+
+/**
+ * Local reactor-netty server answering the {@link AccountClient} endpoints with canned JSON bodies.
+ */
+final class StubServer implements AutoCloseable {
+    private final NettyContext nettyContext;
+
+    private StubServer(NettyContext nettyContext) {
+        this.nettyContext = nettyContext;
+    }
+
+    static StubServer start() {
+        NettyContext nettyContext = HttpServer.create("127.0.0.1", 0)
+                .newHandler((request, response) -> {
+                    String body = request.uri().contains("/transactions/") || request.method().name().equals("POST") ?
+                            Payloads.ACCOUNT :
+                            Payloads.ACCOUNTS;
+                    return request
+                            .receive()
+                            .then()
+                            .then(response
+                                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_UTF8_VALUE)
+                                    .sendString(Mono.just(body))
+                                    .then());
+                })
+                .block();
+        return new StubServer(nettyContext);
+    }
+
+    URI getUri() {
+        return URI.create("http://127.0.0.1:" + nettyContext.address().getPort());
+    }
+
+    @Override
+    public void close() {
+        nettyContext.dispose();
+    }
+}
@@ -0,0 +1,216 @@
+package com.webfluxclient;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+
+import java.io.Closeable;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous access log of the exchanges of a client.
+ * Exchanges are appended as fixed-layout records in a preallocated ring buffer shared by all the writers,
+ * a background thread formats them and hands them to the {@link Logger} in batches.
+ * When the buffer is full the record is dropped and counted, the writer never blocks.
+ *
+ * @author Jérémy Brixhe
+ * */
+public class AccessLog implements Closeable {
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Logger logger;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final long[] timestamps;
+    private final long[] durations;
+    private final int[] statuses;
+    private final HttpMethod[] httpMethods;
+    private final URI[] uris;
+    private final Method[] clientMethods;
+    private final Class<?>[] errorTypes;
+    private final AtomicLong tail;
+    private final LongAdder dropped;
+    private final Thread flusher;
+    private final StringBuilder line;
+    private long head;
+    private long reportedDrops;
+    private volatile boolean closed;
+
+    private AccessLog(Logger logger, int capacity) {
+        this.logger = logger;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.timestamps = new long[capacity];
+        this.durations = new long[capacity];
+        this.statuses = new int[capacity];
+        this.httpMethods = new HttpMethod[capacity];
+        this.uris = new URI[capacity];
+        this.clientMethods = new Method[capacity];
+        this.errorTypes = new Class<?>[capacity];
+        this.tail = new AtomicLong();
+        this.dropped = new LongAdder();
+        this.line = new StringBuilder(256);
+        this.flusher = new Thread(this::flushLoop, "webfluxclient-access-log");
+        this.flusher.setDaemon(true);
+    }
+
+    /**
+     * Create an access log and start its background thread.
+     *
+     * @param logger The logger receiving the formatted batches, one line per exchange.
+     * @param capacity The number of records the buffer holds, rounded up to a power of two.
+     * @return a new {@link AccessLog}
+     * */
+    public static AccessLog create(Logger logger, int capacity) {
+        Assert.notNull(logger, "'logger' Can't be null");
+        Assert.isTrue(capacity > 0 && capacity <= 1 << 30, "'capacity' must be between 1 and 2^30");
+
+        AccessLog accessLog = new AccessLog(logger, capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1);
+        accessLog.flusher.start();
+        return accessLog;
+    }
+
+    /**
+     * Append the record of an exchange without blocking.
+     *
+     * @param timestampMillis The wall clock time the exchange started at.
+     * @param httpMethod The HTTP method of the request.
+     * @param uri The URI of the request.
+     * @param clientMethod The client method, {@code null} when the request wasn't sent by a client proxy.
+     * @param status The status of the response, {@code 0} when the exchange failed.
+     * @param errorType The type of the error of a failed exchange, {@code null} otherwise.
+     * @param durationNanos The duration of the exchange.
+     * @return {@code false} when the record was dropped because the buffer is full
+     * */
+    public boolean append(long timestampMillis, HttpMethod httpMethod, URI uri, Method clientMethod, int status, Class<?> errorType, long durationNanos) {
+        long sequence;
+        int index;
+        do {
+            sequence = tail.get();
+            index = (int) sequence & mask;
+            long available = sequences.get(index);
+            if (available < sequence) {
+                dropped.increment();
+                return false;
+            }
+            if (available > sequence) {
+                continue;
+            }
+            if (tail.compareAndSet(sequence, sequence + 1)) {
+                break;
+            }
+        } while (true);
+
+        timestamps[index] = timestampMillis;
+        durations[index] = durationNanos;
+        statuses[index] = status;
+        httpMethods[index] = httpMethod;
+        uris[index] = uri;
+        clientMethods[index] = clientMethod;
+        errorTypes[index] = errorType;
+        sequences.lazySet(index, sequence + 1);
+        return true;
+    }
+
+    /**
+     * @return the number of records dropped because the buffer was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stop the background thread once the records already appended are flushed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushLoop() {
+        StringBuilder batch = new StringBuilder(BATCH_SIZE * 128);
+        while (true) {
+            boolean closing = closed;
+            int drained = drain(batch);
+            if (drained > 0) {
+                logger.log(batch.toString());
+                batch.setLength(0);
+            }
+            else if (closing) {
+                return;
+            }
+            else {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private int drain(StringBuilder batch) {
+        int drained = 0;
+        while (drained < BATCH_SIZE) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            format(index);
+            if (drained > 0) {
+                batch.append('\n');
+            }
+            batch.append(line);
+
+            httpMethods[index] = null;
+            uris[index] = null;
+            clientMethods[index] = null;
+            errorTypes[index] = null;
+            sequences.lazySet(index, head + mask + 1);
+            head++;
+            drained++;
+        }
+
+        long drops = dropped.sum();
+        if (drops != reportedDrops) {
+            if (drained > 0) {
+                batch.append('\n');
+            }
+            batch.append("access log dropped ").append(drops - reportedDrops).append(" records");
+            reportedDrops = drops;
+            drained++;
+        }
+        return drained;
+    }
+
+    private void format(int index) {
+        line.setLength(0);
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(timestamps[index]), line);
+        line.append(' ').append(httpMethods[index]).append(' ').append(uris[index]).append(' ');
+        if (errorTypes[index] != null) {
+            line.append(errorTypes[index].getName());
+        }
+        else {
+            line.append(statuses[index]);
+        }
+        line.append(' ').append(TimeUnit.NANOSECONDS.toMillis(durations[index])).append("ms");
+        Method clientMethod = clientMethods[index];
+        if (clientMethod != null) {
+            line.append(' ').append(clientMethod.getDeclaringClass().getSimpleName()).append('.').append(clientMethod.getName());
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.webfluxclient;
 
+import com.webfluxclient.client.RequestExecutorFactory;
 import com.webfluxclient.codec.ExtendedClientCodecConfigurer;
 import com.webfluxclient.handler.DefaultReactiveInvocationHandlerFactory;
+import com.webfluxclient.metrics.ClientMetrics;
 
 import java.net.URI;
 import java.util.List;
@@ -50,6 +52,107 @@ public interface ClientBuilder {
 
     ClientBuilder responseProcessors(Consumer<List<ResponseProcessor>> responseInterceptorConsumer);
 
+    /**
+     * Add a {@link RateLimiter} shared by every request of the client.
+     *
+     * @param rateLimiter The rate limiter to use.
+     * @return this builder
+     * */
+    ClientBuilder rateLimiter(RateLimiter rateLimiter);
+
+    /**
+     * Add a {@link LoadShedding} policy applied on every method of the client.
+     *
+     * @param loadShedding The load shedding policy to use.
+     * @return this builder
+     * */
+    ClientBuilder loadShedding(LoadShedding loadShedding);
+
+    /**
+     * Record the latency, status and in-flight calls of every method of the client.
+     *
+     * @param clientMetrics The metrics registry to record into.
+     * @return this builder
+     * */
+    ClientBuilder metrics(ClientMetrics clientMetrics);
+
+    /**
+     * Notify the timing breakdown of every exchange and new connection of the client.
+     * A {@link ClientMetrics} can be used to aggregate the phases per method.
+     *
+     * @param exchangeTimingListener The listener to notify.
+     * @return this builder
+     * */
+    ClientBuilder exchangeTimingListener(ExchangeTimingListener exchangeTimingListener);
+
+    /**
+     * Trace the sampled exchanges of the client.
+     *
+     * @param tracer The tracer to use.
+     * @return this builder
+     * */
+    ClientBuilder tracer(Tracer tracer);
+
+    /**
+     * Append every exchange of the client to an asynchronous {@link AccessLog}.
+     *
+     * @param accessLog The access log to append to.
+     * @return this builder
+     * */
+    ClientBuilder accessLog(AccessLog accessLog);
+
+    /**
+     * Sample the exchanges logged by the {@link LogLevel} logs and the {@link AccessLog}.
+     *
+     * @param logSampling The sampling policy to use.
+     * @return this builder
+     * */
+    ClientBuilder logSampling(LogSampling logSampling);
+
+    /**
+     * Replace the transport of the client, e.g. with a {@link com.webfluxclient.client.LoopbackRequestExecutorFactory}
+     * to send the requests to a handler of the same JVM.
+     *
+     * @param requestExecutorFactory The factory of the executor sending the requests.
+     * @return this builder
+     * */
+    ClientBuilder requestExecutorFactory(RequestExecutorFactory requestExecutorFactory);
+
+    /**
+     * Dispatch the requests under a base URI registered in {@link LocalHttpHandlers} directly into the handler
+     * of the same JVM, the others still go over the network.
+     *
+     * @param localHttpHandlers The registry to look the handlers up in, e.g. {@link LocalHttpHandlers#shared()}.
+     * @return this builder
+     * */
+    ClientBuilder localHttpHandlers(LocalHttpHandlers localHttpHandlers);
+
+    /**
+     * Run the connections of the client on the given event loops instead of the global reactor-netty ones.
+     *
+     * @param eventLoops The event loops and transport to use.
+     * @return this builder
+     * */
+    ClientBuilder eventLoops(EventLoops eventLoops);
+
+    /**
+     * Decode the response bodies larger than a threshold off the I/O threads.
+     * The threshold can be overridden per method with {@link com.webfluxclient.annotation.OffloadDecoding}.
+     *
+     * @param decodingOffload The scheduler and threshold to use.
+     * @return this builder
+     * */
+    ClientBuilder decodingOffload(DecodingOffload decodingOffload);
+
+    /**
+     * Accept compressed responses and compress the request bodies larger than a threshold.
+     * Only the methods annotated with {@link com.webfluxclient.annotation.Compress} compress their request body.
+     *
+     * @param compression The encoding and threshold to use.
+     * @return this builder
+     * */
+    ClientBuilder compression(Compression compression);
+
     /**
      * Build the proxy instance
      *
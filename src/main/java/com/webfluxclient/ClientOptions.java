@@ -0,0 +1,135 @@
+package com.webfluxclient;
+
+import com.webfluxclient.client.RequestExecutorFactory;
+import com.webfluxclient.metrics.ClientMetrics;
+import lombok.Getter;
+
+/**
+ * The optional features of a client, as configured on its {@link ClientBuilder}.
+ * Every option is {@code null} when the feature is disabled.
+ *
+ * @author Jérémy Brixhe
+ * */
+@Getter
+public class ClientOptions {
+    private final RateLimiter rateLimiter;
+    private final LoadShedding loadShedding;
+    private final ClientMetrics clientMetrics;
+    private final ExchangeTimingListener exchangeTimingListener;
+    private final Tracer tracer;
+    private final AccessLog accessLog;
+    private final LogSampling logSampling;
+    private final RequestExecutorFactory requestExecutorFactory;
+    private final LocalHttpHandlers localHttpHandlers;
+    private final EventLoops eventLoops;
+    private final DecodingOffload decodingOffload;
+    private final Compression compression;
+
+    private ClientOptions(Builder builder) {
+        rateLimiter = builder.rateLimiter;
+        loadShedding = builder.loadShedding;
+        clientMetrics = builder.clientMetrics;
+        exchangeTimingListener = builder.exchangeTimingListener;
+        tracer = builder.tracer;
+        accessLog = builder.accessLog;
+        logSampling = builder.logSampling;
+        requestExecutorFactory = builder.requestExecutorFactory;
+        localHttpHandlers = builder.localHttpHandlers;
+        eventLoops = builder.eventLoops;
+        decodingOffload = builder.decodingOffload;
+        compression = builder.compression;
+    }
+
+    /**
+     * @return options with every feature disabled
+     */
+    public static ClientOptions empty() {
+        return newBuilder().build();
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private RateLimiter rateLimiter;
+        private LoadShedding loadShedding;
+        private ClientMetrics clientMetrics;
+        private ExchangeTimingListener exchangeTimingListener;
+        private Tracer tracer;
+        private AccessLog accessLog;
+        private LogSampling logSampling;
+        private RequestExecutorFactory requestExecutorFactory;
+        private LocalHttpHandlers localHttpHandlers;
+        private EventLoops eventLoops;
+        private DecodingOffload decodingOffload;
+        private Compression compression;
+
+        private Builder() {
+        }
+
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        public Builder loadShedding(LoadShedding loadShedding) {
+            this.loadShedding = loadShedding;
+            return this;
+        }
+
+        public Builder clientMetrics(ClientMetrics clientMetrics) {
+            this.clientMetrics = clientMetrics;
+            return this;
+        }
+
+        public Builder exchangeTimingListener(ExchangeTimingListener exchangeTimingListener) {
+            this.exchangeTimingListener = exchangeTimingListener;
+            return this;
+        }
+
+        public Builder tracer(Tracer tracer) {
+            this.tracer = tracer;
+            return this;
+        }
+
+        public Builder accessLog(AccessLog accessLog) {
+            this.accessLog = accessLog;
+            return this;
+        }
+
+        public Builder logSampling(LogSampling logSampling) {
+            this.logSampling = logSampling;
+            return this;
+        }
+
+        public Builder requestExecutorFactory(RequestExecutorFactory requestExecutorFactory) {
+            this.requestExecutorFactory = requestExecutorFactory;
+            return this;
+        }
+
+        public Builder localHttpHandlers(LocalHttpHandlers localHttpHandlers) {
+            this.localHttpHandlers = localHttpHandlers;
+            return this;
+        }
+
+        public Builder eventLoops(EventLoops eventLoops) {
+            this.eventLoops = eventLoops;
+            return this;
+        }
+
+        public Builder decodingOffload(DecodingOffload decodingOffload) {
+            this.decodingOffload = decodingOffload;
+            return this;
+        }
+
+        public Builder compression(Compression compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        public ClientOptions build() {
+            return new ClientOptions(this);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.webfluxclient;
+
+import org.springframework.util.Assert;
+
+/**
+ * Compress the request bodies of the methods annotated with {@link com.webfluxclient.annotation.Compress}
+ * once they grow over a threshold, and accept compressed responses, decompressed as they are read.
+ *
+ * @author Jérémy Brixhe
+ * @see com.webfluxclient.annotation.Compress
+ * */
+public class Compression {
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    private final String encoding;
+    private final long thresholdBytes;
+
+    private Compression(String encoding, long thresholdBytes) {
+        this.encoding = encoding;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    /**
+     * Compress with gzip.
+     *
+     * @param thresholdBytes The size from which a request body is compressed.
+     * @return a new {@link Compression}
+     * */
+    public static Compression gzip(long thresholdBytes) {
+        return of(GZIP, thresholdBytes);
+    }
+
+    /**
+     * Compress with deflate, the zlib format.
+     *
+     * @param thresholdBytes The size from which a request body is compressed.
+     * @return a new {@link Compression}
+     * */
+    public static Compression deflate(long thresholdBytes) {
+        return of(DEFLATE, thresholdBytes);
+    }
+
+    private static Compression of(String encoding, long thresholdBytes) {
+        Assert.isTrue(thresholdBytes >= 0, "'thresholdBytes' can't be negative");
+
+        return new Compression(encoding, thresholdBytes);
+    }
+
+    /**
+     * @param thresholdBytes The size from which a request body is compressed.
+     * @return a new {@link Compression} with the same encoding
+     */
+    public Compression withThreshold(long thresholdBytes) {
+        return of(encoding, thresholdBytes);
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    public long getThresholdBytes() {
+        return thresholdBytes;
+    }
+}
@@ -0,0 +1,75 @@
+package com.webfluxclient;
+
+import org.springframework.util.Assert;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Decode the large response bodies on a bounded scheduler instead of the I/O thread that received them,
+ * so parsing a big payload doesn't stall the other connections of the event loop.
+ *
+ * @author Jérémy Brixhe
+ * @see com.webfluxclient.annotation.OffloadDecoding
+ * */
+public class DecodingOffload {
+    private static volatile Scheduler defaultScheduler;
+
+    private final Scheduler scheduler;
+    private final long thresholdBytes;
+
+    private DecodingOffload(Scheduler scheduler, long thresholdBytes) {
+        this.scheduler = scheduler;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    /**
+     * Offload to a scheduler.
+     *
+     * @param scheduler The scheduler decoding the large bodies, it should be bounded.
+     * @param thresholdBytes The size above which a body is offloaded.
+     * @return a new {@link DecodingOffload}
+     * */
+    public static DecodingOffload of(Scheduler scheduler, long thresholdBytes) {
+        Assert.notNull(scheduler, "'scheduler' Can't be null");
+        Assert.isTrue(thresholdBytes >= 0, "'thresholdBytes' can't be negative");
+
+        return new DecodingOffload(scheduler, thresholdBytes);
+    }
+
+    /**
+     * Offload to a parallel scheduler with one daemon thread per core, shared by all the clients.
+     *
+     * @param thresholdBytes The size above which a body is offloaded.
+     * @return a new {@link DecodingOffload}
+     * */
+    public static DecodingOffload parallel(long thresholdBytes) {
+        return of(defaultScheduler(), thresholdBytes);
+    }
+
+    /**
+     * @param thresholdBytes The size above which a body is offloaded.
+     * @return a new {@link DecodingOffload} with the same scheduler
+     */
+    public DecodingOffload withThreshold(long thresholdBytes) {
+        return of(scheduler, thresholdBytes);
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    public long getThresholdBytes() {
+        return thresholdBytes;
+    }
+
+    private static Scheduler defaultScheduler() {
+        if (defaultScheduler == null) {
+            synchronized (DecodingOffload.class) {
+                if (defaultScheduler == null) {
+                    defaultScheduler = Schedulers.newParallel("webfluxclient-decoding", Runtime.getRuntime().availableProcessors(), true);
+                }
+            }
+        }
+        return defaultScheduler;
+    }
+}
@@ -1,7 +1,9 @@
 package com.webfluxclient;
 
+import com.webfluxclient.client.RequestExecutorFactory;
 import com.webfluxclient.codec.ExtendedClientCodecConfigurer;
 import com.webfluxclient.handler.ReactiveInvocationHandlerFactory;
+import com.webfluxclient.metrics.ClientMetrics;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
@@ -17,12 +19,14 @@ class DefaultClientBuilder implements ClientBuilder {
     private List<ResponseProcessor> responseProcessors;
     private Logger logger;
     private LogLevel logLevel;
+    private ClientOptions.Builder options;
 
     DefaultClientBuilder(ReactiveInvocationHandlerFactory reactiveInvocationHandlerFactory) {
         this.reactiveInvocationHandlerFactory = reactiveInvocationHandlerFactory;
         this.codecConfigurer = com.webfluxclient.codec.ExtendedClientCodecConfigurer.create();
         this.requestProcessors = new ArrayList<>();
         this.responseProcessors = new ArrayList<>();
+        this.options = ClientOptions.newBuilder();
     }
 
     @Override
@@ -79,9 +83,81 @@ class DefaultClientBuilder implements ClientBuilder {
         return this;
     }
 
+    @Override
+    public ClientBuilder rateLimiter(RateLimiter rateLimiter) {
+        options.rateLimiter(rateLimiter);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder loadShedding(LoadShedding loadShedding) {
+        options.loadShedding(loadShedding);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder metrics(ClientMetrics clientMetrics) {
+        options.clientMetrics(clientMetrics);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder exchangeTimingListener(ExchangeTimingListener exchangeTimingListener) {
+        options.exchangeTimingListener(exchangeTimingListener);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder tracer(Tracer tracer) {
+        options.tracer(tracer);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder accessLog(AccessLog accessLog) {
+        options.accessLog(accessLog);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder logSampling(LogSampling logSampling) {
+        options.logSampling(logSampling);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder requestExecutorFactory(RequestExecutorFactory requestExecutorFactory) {
+        options.requestExecutorFactory(requestExecutorFactory);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder localHttpHandlers(LocalHttpHandlers localHttpHandlers) {
+        options.localHttpHandlers(localHttpHandlers);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder eventLoops(EventLoops eventLoops) {
+        options.eventLoops(eventLoops);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder decodingOffload(DecodingOffload decodingOffload) {
+        options.decodingOffload(decodingOffload);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder compression(Compression compression) {
+        options.compression(compression);
+        return this;
+    }
+
     @Override
     public <T> T build(Class<T> target, URI uri) {
-        InvocationHandler invocationHandler = reactiveInvocationHandlerFactory.build(codecConfigurer, requestProcessors, responseProcessors, logger, logLevel, target, uri);
+        InvocationHandler invocationHandler = reactiveInvocationHandlerFactory.build(codecConfigurer, requestProcessors, responseProcessors, logger, logLevel, options.build(), target, uri);
         return (T) Proxy.newProxyInstance(target.getClassLoader(), new Class<?>[]{target}, invocationHandler);
     }
 }
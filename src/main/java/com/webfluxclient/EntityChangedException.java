@@ -0,0 +1,20 @@
+package com.webfluxclient;
+
+import java.net.URI;
+
+/**
+ * The resource of a ranged download changed on the server while it was being downloaded.
+ * Retrying cannot fix it, the download has to start over.
+ */
+public class EntityChangedException extends RuntimeException {
+    private URI uri;
+
+    public EntityChangedException(URI uri, int status) {
+        super("Expected a partial content response to a range request of " + uri + ", got " + status);
+        this.uri = uri;
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+}
@@ -0,0 +1,71 @@
+package com.webfluxclient;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import reactor.ipc.netty.resources.LoopResources;
+
+/**
+ * Event loops running the connections of a client.
+ * By default a client uses the global reactor-netty loops, these options give it dedicated loops of a given size,
+ * or the loops of a WebFlux server of the same JVM so a request received and the calls it makes stay on the same thread.
+ *
+ * @author Jérémy Brixhe
+ * */
+public class EventLoops {
+    private static final boolean EPOLL_PRESENT = ClassUtils.isPresent("io.netty.channel.epoll.Epoll", EventLoops.class.getClassLoader());
+
+    private final LoopResources loopResources;
+    private final boolean preferNative;
+
+    private EventLoops(LoopResources loopResources, boolean preferNative) {
+        this.loopResources = loopResources;
+        this.preferNative = preferNative;
+    }
+
+    /**
+     * Dedicated daemon event loops.
+     *
+     * @param loopCount The number of event loops.
+     * @return a new {@link EventLoops} using the native epoll transport when available
+     * */
+    public static EventLoops create(int loopCount) {
+        Assert.isTrue(loopCount > 0, "'loopCount' must be positive");
+
+        return new EventLoops(LoopResources.create("webfluxclient", loopCount, true), true);
+    }
+
+    /**
+     * Reuse existing event loops, e.g. {@code HttpResources.get()} shared with the reactor-netty server.
+     *
+     * @param loopResources The loops to run the connections on.
+     * @return a new {@link EventLoops} using the native epoll transport when available
+     * */
+    public static EventLoops shared(LoopResources loopResources) {
+        Assert.notNull(loopResources, "'loopResources' Can't be null");
+
+        return new EventLoops(loopResources, true);
+    }
+
+    /**
+     * @param preferNative {@code false} to use the NIO transport even when epoll is available.
+     * @return a new {@link EventLoops} with the same loops
+     */
+    public EventLoops preferNative(boolean preferNative) {
+        return new EventLoops(loopResources, preferNative);
+    }
+
+    public LoopResources getLoopResources() {
+        return loopResources;
+    }
+
+    public boolean isPreferNative() {
+        return preferNative;
+    }
+
+    /**
+     * @return {@code true} when the native epoll transport is on the classpath and supported by the platform
+     */
+    public static boolean isNativeAvailable() {
+        return EPOLL_PRESENT && io.netty.channel.epoll.Epoll.isAvailable();
+    }
+}
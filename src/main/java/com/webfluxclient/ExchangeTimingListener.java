@@ -0,0 +1,46 @@
+package com.webfluxclient;
+
+import com.webfluxclient.client.ConnectionTimings;
+import com.webfluxclient.client.ExchangeTimings;
+import org.springframework.util.Assert;
+
+/**
+ * Listener notified with the timing breakdown of the exchanges of a client.
+ *
+ * @author Jérémy Brixhe
+ * */
+public interface ExchangeTimingListener {
+
+    /**
+     * Called once per exchange, when the response body has been read or the exchange failed.
+     *
+     * @param exchangeTimings The phases of the exchange.
+     * */
+    void onExchange(ExchangeTimings exchangeTimings);
+
+    /**
+     * Called once per new connection, when it is ready to send requests.
+     *
+     * @param connectionTimings The phases of the connection establishment.
+     * */
+    default void onConnection(ConnectionTimings connectionTimings) {
+    }
+
+    default ExchangeTimingListener andThen(ExchangeTimingListener after) {
+        Assert.notNull(after, "");
+        ExchangeTimingListener before = this;
+        return new ExchangeTimingListener() {
+            @Override
+            public void onExchange(ExchangeTimings exchangeTimings) {
+                before.onExchange(exchangeTimings);
+                after.onExchange(exchangeTimings);
+            }
+
+            @Override
+            public void onConnection(ConnectionTimings connectionTimings) {
+                before.onConnection(connectionTimings);
+                after.onConnection(connectionTimings);
+            }
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.webfluxclient;
+
+import com.webfluxclient.handler.LoadShedder;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Load shedding policy applied independently on every method of a client.
+ * Keep a reference on it to read the number of calls rejected for each method.
+ *
+ * @author Jérémy Brixhe
+ * */
+public class LoadShedding {
+    private long targetNanos;
+    private long intervalNanos;
+    private Map<Method, LoadShedder> loadShedders;
+
+    private LoadShedding(long targetNanos, long intervalNanos) {
+        this.targetNanos = targetNanos;
+        this.intervalNanos = intervalNanos;
+        this.loadShedders = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create a CoDel policy: once the shortest time spent waiting for a connection stays above
+     * the target for a whole interval, new calls fail fast with a {@link LoadSheddingException}.
+     *
+     * @param target The acceptable queueing delay.
+     * @param interval The window the delay has to stay above the target before shedding.
+     * @return a new {@link LoadShedding}
+     * */
+    public static LoadShedding coDel(Duration target, Duration interval) {
+        Assert.notNull(target, "'target' Can't be null");
+        Assert.notNull(interval, "'interval' Can't be null");
+        Assert.isTrue(!interval.isNegative() && !interval.isZero(), "'interval' must be positive");
+
+        return new LoadShedding(target.toNanos(), interval.toNanos());
+    }
+
+    public LoadShedder loadShedder(Method method) {
+        return loadShedders.computeIfAbsent(method, key -> new LoadShedder(key, targetNanos, intervalNanos));
+    }
+
+    public long getRejectedCount(Method method) {
+        LoadShedder loadShedder = loadShedders.get(method);
+        return loadShedder == null ? 0 : loadShedder.getRejectedCount();
+    }
+
+    public Map<Method, Long> getRejectedCounts() {
+        return Collections.unmodifiableMap(loadShedders
+                .values()
+                .stream()
+                .collect(toMap(LoadShedder::getMethod, LoadShedder::getRejectedCount)));
+    }
+}
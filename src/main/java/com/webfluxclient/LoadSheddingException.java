@@ -0,0 +1,17 @@
+package com.webfluxclient;
+
+import java.lang.reflect.Method;
+
+public class LoadSheddingException extends RuntimeException {
+    private Method method;
+
+    public LoadSheddingException(Method method) {
+        // Rejections happen under overload, skip the stack trace to keep them cheap
+        super("Call rejected, queueing delay above target for the method " + method, null, false, false);
+        this.method = method;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+}
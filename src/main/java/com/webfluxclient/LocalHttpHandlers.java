@@ -0,0 +1,139 @@
+package com.webfluxclient;
+
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.util.Assert;
+import reactor.core.Disposable;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of the WebFlux {@link HttpHandler}s running in the same JVM, by base URI.
+ * A client configured with it sends the requests under a registered base URI straight to the handler,
+ * without going through TCP nor HTTP parsing, and the others over the network.
+ *
+ * @author Jérémy Brixhe
+ * */
+public class LocalHttpHandlers {
+    private static final LocalHttpHandlers SHARED = new LocalHttpHandlers();
+
+    private final List<Registration> registrations;
+
+    private LocalHttpHandlers() {
+        this.registrations = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * @return the registry shared by the whole JVM
+     */
+    public static LocalHttpHandlers shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return a new empty registry
+     */
+    public static LocalHttpHandlers create() {
+        return new LocalHttpHandlers();
+    }
+
+    /**
+     * Register a handler for all the requests under a base URI.
+     * The path of the base URI is the context path of the requests handled.
+     *
+     * @param baseUri The scheme, host, port and path the handler serves.
+     * @param httpHandler The handler of the local service.
+     * @return the registration, dispose it when the service stops
+     * */
+    public Registration register(URI baseUri, HttpHandler httpHandler) {
+        Assert.notNull(baseUri, "'baseUri' Can't be null");
+        Assert.notNull(httpHandler, "'httpHandler' Can't be null");
+        Assert.isTrue(baseUri.getScheme() != null && baseUri.getHost() != null, "'baseUri' must be absolute");
+
+        Registration registration = new Registration(baseUri, httpHandler);
+        registrations.add(registration);
+        return registration;
+    }
+
+    /**
+     * Find the handler of a request, the registration with the longest matching path wins.
+     *
+     * @param uri The URI of the request.
+     * @return the registration serving the URI, {@code null} when the request must go over the network
+     * */
+    public Registration lookup(URI uri) {
+        Registration match = null;
+        for (Registration registration : registrations) {
+            if (registration.matches(uri) && (match == null || registration.contextPath.length() > match.contextPath.length())) {
+                match = registration;
+            }
+        }
+        return match;
+    }
+
+    public class Registration implements Disposable {
+        private final URI baseUri;
+        private final String scheme;
+        private final String host;
+        private final int port;
+        private final String contextPath;
+        private final HttpHandler httpHandler;
+
+        private Registration(URI baseUri, HttpHandler httpHandler) {
+            this.baseUri = baseUri;
+            this.scheme = baseUri.getScheme();
+            this.host = baseUri.getHost();
+            this.port = port(baseUri);
+            this.contextPath = contextPath(baseUri.getRawPath());
+            this.httpHandler = httpHandler;
+        }
+
+        public URI getBaseUri() {
+            return baseUri;
+        }
+
+        public String getContextPath() {
+            return contextPath;
+        }
+
+        public HttpHandler getHttpHandler() {
+            return httpHandler;
+        }
+
+        @Override
+        public void dispose() {
+            registrations.remove(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return !registrations.contains(this);
+        }
+
+        private boolean matches(URI uri) {
+            if (!scheme.equalsIgnoreCase(uri.getScheme()) || !host.equalsIgnoreCase(uri.getHost()) || port != port(uri)) {
+                return false;
+            }
+            if (contextPath.isEmpty()) {
+                return true;
+            }
+            String path = uri.getRawPath();
+            return path != null && path.startsWith(contextPath) && (path.length() == contextPath.length() || path.charAt(contextPath.length()) == '/');
+        }
+    }
+
+    private static int port(URI uri) {
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    private static String contextPath(String path) {
+        if (path == null) {
+            return "";
+        }
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+}
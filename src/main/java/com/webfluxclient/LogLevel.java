@@ -35,5 +35,29 @@ public enum LogLevel {
      * <-- END HTTP
      * }</pre>
      */
-    HEADERS
+    HEADERS,
+
+    /**
+     * Logs request and response lines, their respective headers and the first 4 KB of their bodies.
+     * The bodies are captured while they are streamed, without buffering them nor affecting backpressure.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * --> POST /hello
+     * Content-Type: application/json
+     * Headers:
+     * - Accept-Language: en
+     * --> END POST
+     * --> BODY POST
+     * {"name":"world"}
+     *
+     * <-- 200 OK POST /hello (22ms)
+     * Headers:
+     * - Content-Type: application/json
+     * <-- END HTTP
+     * <-- BODY POST
+     * {"greeting":"hello world"}
+     * }</pre>
+     */
+    BODY
 }
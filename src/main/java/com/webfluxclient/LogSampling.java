@@ -0,0 +1,88 @@
+package com.webfluxclient;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sampling policy of the exchange logs, applied to the {@link LogLevel} logs and to the {@link AccessLog}.
+ * Exchanges that aren't sampled only log their failure, their error status or their response when it is slow,
+ * and the total number of lines is capped per second.
+ *
+ * @author Jérémy Brixhe
+ * */
+public class LogSampling {
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final int oneIn;
+    private final long slowThresholdNanos;
+    private final int maxLinesPerSecond;
+    private final AtomicLong lineWindow;
+    private final LongAdder suppressedLines;
+
+    private LogSampling(int oneIn, long slowThresholdNanos, int maxLinesPerSecond) {
+        this.oneIn = oneIn;
+        this.slowThresholdNanos = slowThresholdNanos;
+        this.maxLinesPerSecond = maxLinesPerSecond;
+        this.lineWindow = new AtomicLong();
+        this.suppressedLines = new LongAdder();
+    }
+
+    /**
+     * Create a sampling policy.
+     *
+     * @param oneIn Log one exchange out of {@code oneIn}, chosen at random.
+     * @param slowThreshold Exchanges slower than it are always logged, {@code null} disables it.
+     * @param maxLinesPerSecond The maximum number of lines logged per second, lines above it are suppressed.
+     * @return a new {@link LogSampling}
+     * */
+    public static LogSampling of(int oneIn, Duration slowThreshold, int maxLinesPerSecond) {
+        Assert.isTrue(oneIn > 0, "'oneIn' must be positive");
+        Assert.isTrue(maxLinesPerSecond > 0, "'maxLinesPerSecond' must be positive");
+
+        return new LogSampling(oneIn, slowThreshold == null ? Long.MAX_VALUE : slowThreshold.toNanos(), maxLinesPerSecond);
+    }
+
+    /**
+     * @return {@code true} when the exchange about to start is sampled
+     */
+    public boolean isSampled() {
+        return oneIn == 1 || ThreadLocalRandom.current().nextInt(oneIn) == 0;
+    }
+
+    public boolean isSlow(long durationNanos) {
+        return durationNanos > slowThresholdNanos;
+    }
+
+    /**
+     * Reserve lines in the budget of the current second.
+     *
+     * @param lines The number of lines about to be logged.
+     * @return {@code false} when the lines must be suppressed
+     */
+    public boolean tryAcquire(int lines) {
+        long second = (System.nanoTime() / ONE_SECOND) & 0xFFFFFFFFL;
+        while (true) {
+            long window = lineWindow.get();
+            long count = window >>> 32 == second ? (window & 0xFFFFFFFFL) + lines : lines;
+            if (count > maxLinesPerSecond) {
+                suppressedLines.add(lines);
+                return false;
+            }
+            if (lineWindow.compareAndSet(window, second << 32 | count)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return the number of lines suppressed by the cap per second
+     */
+    public long getSuppressedCount() {
+        return suppressedLines.sum();
+    }
+}
@@ -0,0 +1,14 @@
+package com.webfluxclient;
+
+public class RateLimitExceededException extends RuntimeException {
+    private long waitNanos;
+
+    public RateLimitExceededException(long waitNanos) {
+        super("Rate limit exceeded, next permit available in " + waitNanos + "ns");
+        this.waitNanos = waitNanos;
+    }
+
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+}
@@ -0,0 +1,41 @@
+package com.webfluxclient;
+
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Client side rate limiter applied before each exchange.
+ *
+ * @author Jérémy Brixhe
+ * */
+public interface RateLimiter {
+
+    /**
+     * Reserve a permit for the next request.
+     *
+     * @return a {@link Mono} completing once the request is allowed to proceed,
+     * or failing with a {@link RateLimitExceededException} when the permit can't be granted in time
+     * */
+    Mono<Void> acquire();
+
+    /**
+     * Adapt the limiter to the quota advertised by the server.
+     *
+     * @param clientResponse The response received for a limited request.
+     * */
+    void onResponse(ClientResponse clientResponse);
+
+    /**
+     * Reserve a permit on each subscription, then run the exchange.
+     *
+     * @param exchange The exchange to limit.
+     * @return the response of the exchange
+     * */
+    default Mono<ClientResponse> limit(Supplier<Mono<ClientResponse>> exchange) {
+        return Mono.defer(this::acquire)
+                .then(Mono.defer(exchange))
+                .doOnNext(this::onResponse);
+    }
+}
@@ -0,0 +1,28 @@
+package com.webfluxclient;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimiters {
+
+    /**
+     * Create a token bucket {@link RateLimiter}.
+     *
+     * @param permitsPerSecond The sustained rate allowed.
+     * @param burst The number of requests that can be sent at once when the bucket is full.
+     * @param maxWait The longest a request is delayed before being rejected, {@link Duration#ZERO} rejects without delay.
+     * @return a new non blocking {@link RateLimiter}
+     * */
+    public static RateLimiter tokenBucket(double permitsPerSecond, int burst, Duration maxWait) {
+        Assert.isTrue(permitsPerSecond > 0, "'permitsPerSecond' must be positive");
+        Assert.isTrue(burst > 0, "'burst' must be positive");
+        Assert.notNull(maxWait, "'maxWait' Can't be null");
+
+        long maxWaitNanos = maxWait.getSeconds() < TimeUnit.NANOSECONDS.toSeconds(Long.MAX_VALUE) ?
+                maxWait.toNanos() :
+                Long.MAX_VALUE;
+        return new TokenBucketRateLimiter(permitsPerSecond, burst, maxWaitNanos);
+    }
+}
@@ -0,0 +1,160 @@
+package com.webfluxclient;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock free token bucket implemented as a generic cell rate algorithm: the bucket is a single
+ * theoretical arrival time updated with compare-and-set, so no thread ever blocks on it.
+ * Requests over the rate are delayed on the timer scheduler instead of the calling thread, and a delayed
+ * request cancelled before its turn gives its slot back. A rate lowered by {@code RateLimit-*} headers
+ * holds until the announced reset, then the configured rate applies again.
+ */
+class TokenBucketRateLimiter implements RateLimiter {
+    static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+    static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+
+    private final long configuredIntervalNanos;
+    private final int burst;
+    private final long maxWaitNanos;
+    private final AtomicLong theoreticalArrivalTime;
+    private volatile long intervalNanos;
+    private volatile long adaptedUntilNanos;
+
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, long maxWaitNanos) {
+        this.configuredIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burst = burst;
+        this.maxWaitNanos = maxWaitNanos;
+        this.intervalNanos = configuredIntervalNanos;
+        this.theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public Mono<Void> acquire() {
+        long waitNanos = reserve(System.nanoTime());
+        if (waitNanos < 0) {
+            return Mono.error(new RateLimitExceededException(-waitNanos));
+        }
+        return waitNanos == 0 ?
+                Mono.empty() :
+                Mono.delay(Duration.ofNanos(waitNanos))
+                        .doOnCancel(this::release)
+                        .then();
+    }
+
+    @Override
+    public void onResponse(ClientResponse clientResponse) {
+        HttpHeaders headers = clientResponse.headers().asHttpHeaders();
+        long now = System.nanoTime();
+
+        long retryAfterNanos = parseRetryAfter(headers.getFirst(HttpHeaders.RETRY_AFTER));
+        if (retryAfterNanos > 0) {
+            pauseUntil(now + retryAfterNanos);
+        }
+
+        long remaining = parseLeadingLong(headers.getFirst(RATE_LIMIT_REMAINING));
+        long resetNanos = TimeUnit.SECONDS.toNanos(parseLeadingLong(headers.getFirst(RATE_LIMIT_RESET)));
+        if (remaining == 0 && resetNanos > 0) {
+            pauseUntil(now + resetNanos);
+        }
+        else if (remaining > 0 && resetNanos > 0) {
+            adaptedUntilNanos = now + resetNanos;
+            intervalNanos = Math.max(configuredIntervalNanos, resetNanos / remaining);
+        }
+    }
+
+    /**
+     * @return the delay in nanoseconds before the permit can be used, or the negated delay when it exceeds the max wait
+     */
+    long reserve(long now) {
+        for (;;) {
+            long interval = intervalNanos(now);
+            long tolerance = interval * (burst - 1);
+            long tat = theoreticalArrivalTime.get();
+            long waitNanos = Math.max(0, tat - now - tolerance);
+            if (waitNanos > maxWaitNanos) {
+                return -waitNanos;
+            }
+            long next = (tat - now > 0 ? tat : now) + interval;
+            if (theoreticalArrivalTime.compareAndSet(tat, next)) {
+                return waitNanos;
+            }
+        }
+    }
+
+    long getIntervalNanos() {
+        return intervalNanos;
+    }
+
+    /**
+     * Give back the slot of a reservation whose wait was cancelled, by moving the theoretical arrival time back.
+     */
+    private void release() {
+        long interval = intervalNanos;
+        long tat;
+        do {
+            tat = theoreticalArrivalTime.get();
+        } while (!theoreticalArrivalTime.compareAndSet(tat, tat - interval));
+    }
+
+    private long intervalNanos(long now) {
+        long interval = intervalNanos;
+        if (interval != configuredIntervalNanos && now - adaptedUntilNanos >= 0) {
+            intervalNanos = configuredIntervalNanos;
+            return configuredIntervalNanos;
+        }
+        return interval;
+    }
+
+    private void pauseUntil(long resumeNanos) {
+        long next = resumeNanos + intervalNanos * (burst - 1);
+        long tat;
+        while (next - (tat = theoreticalArrivalTime.get()) > 0) {
+            if (theoreticalArrivalTime.compareAndSet(tat, next)) {
+                return;
+            }
+        }
+    }
+
+    private static long parseRetryAfter(String retryAfter) {
+        if (retryAfter == null) {
+            return 0;
+        }
+        long seconds = parseLeadingLong(retryAfter);
+        if (seconds >= 0) {
+            return TimeUnit.SECONDS.toNanos(seconds);
+        }
+        try {
+            ZonedDateTime retryDate = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(retryDate.getZone()), retryDate).toNanos());
+        }
+        catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+
+    private static long parseLeadingLong(String value) {
+        if (value == null) {
+            return -1;
+        }
+        long result = -1;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                result = (result < 0 ? 0 : result * 10) + (c - '0');
+            }
+            else if (c != ' ' || result >= 0) {
+                break;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+package com.webfluxclient;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+/**
+ * Tracing hook applied around each exchange.
+ * The sampling decision is taken before anything is allocated for the exchange,
+ * unsampled requests are sent untouched.
+ *
+ * @author Jérémy Brixhe
+ * */
+public interface Tracer {
+
+    /**
+     * Head-based sampling decision, called once per exchange.
+     *
+     * @param clientRequest The request about to be sent.
+     * @return {@code true} to start a span for the exchange
+     * */
+    boolean isSampled(ClientRequest clientRequest);
+
+    /**
+     * Start the span of a sampled exchange.
+     *
+     * @param clientRequest The request about to be sent.
+     * @return the span, ended once the response headers are received or the exchange fails
+     * */
+    Span startSpan(ClientRequest clientRequest);
+
+    interface Span {
+
+        /**
+         * Propagate the trace context.
+         *
+         * @param httpHeaders The headers of the request about to be sent.
+         * */
+        void inject(HttpHeaders httpHeaders);
+
+        /**
+         * End the span.
+         *
+         * @param clientResponse The response, {@code null} when the exchange failed or was cancelled.
+         * @param throwable The error of a failed exchange, {@code null} otherwise.
+         * @param durationNanos The duration of the exchange measured with {@link System#nanoTime()}.
+         * */
+        void end(ClientResponse clientResponse, Throwable throwable, long durationNanos);
+    }
+}
@@ -0,0 +1,26 @@
+package com.webfluxclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Compress the request bodies of a client method with the {@link com.webfluxclient.Compression} of the client.
+ * Bodies smaller than the threshold are sent as they are.
+ * When placed on the client interface, it applies to all its methods.
+ *
+ * @author Jérémy Brixhe
+ * @see com.webfluxclient.Compression
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Compress {
+
+    /**
+     * The size in bytes from which a body is compressed, the threshold of the client when negative.
+     */
+    long thresholdBytes() default -1;
+}
@@ -0,0 +1,22 @@
+package com.webfluxclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Write the response body of a client method to the annotated {@link java.nio.file.Path} argument.
+ * The buffers are written with an {@link java.nio.channels.AsynchronousFileChannel} as they arrive and released
+ * once written, so the memory used doesn't depend on the size of the body. The method returns the {@code Path}
+ * once the body is fully written, as a {@code Mono<Path>} or blocking, or completes a {@code Mono<Void>} or
+ * returns from a {@code void} method. Building the client fails for any other return type.
+ *
+ * @author Jérémy Brixhe
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DownloadTo {
+}
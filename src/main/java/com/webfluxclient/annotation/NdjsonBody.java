@@ -0,0 +1,32 @@
+package com.webfluxclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Send the {@code Publisher} body of a client method as newline delimited JSON.
+ * The elements are encoded into pooled buffers and several of them are sent per network write:
+ * a buffer is written once it holds {@link #maxBytes()}, or {@link #maxDelayMillis()} after its first element.
+ * No more elements are requested while a full buffer waits for the connection to accept it.
+ * The body must be a {@code Publisher}, otherwise building the client fails.
+ *
+ * @author Jérémy Brixhe
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface NdjsonBody {
+
+    /**
+     * The size in bytes above which the pending elements are written.
+     */
+    int maxBytes() default 32 * 1024;
+
+    /**
+     * The maximum time in milliseconds an element waits for others before being written.
+     */
+    long maxDelayMillis() default 10;
+}
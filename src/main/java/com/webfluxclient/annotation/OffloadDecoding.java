@@ -0,0 +1,26 @@
+package com.webfluxclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Decode the response bodies of a client method larger than a threshold off the I/O thread.
+ * The scheduler is the one of the {@link com.webfluxclient.DecodingOffload} of the client, or a shared parallel one.
+ * When placed on the client interface, it applies to all its methods.
+ *
+ * @author Jérémy Brixhe
+ * @see com.webfluxclient.DecodingOffload
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OffloadDecoding {
+
+    /**
+     * The size in bytes above which a body is offloaded.
+     */
+    long thresholdBytes() default 256 * 1024;
+}
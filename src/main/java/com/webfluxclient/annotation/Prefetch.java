@@ -0,0 +1,27 @@
+package com.webfluxclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bound the demand of the {@code Flux} returned by a client method.
+ * At most {@link #value()} elements are requested ahead of the subscriber, and the demand is replenished
+ * once 75% of them are consumed. The body is read from the connection only as fast as the elements are requested,
+ * so a slow subscriber pauses the socket reads instead of buffering the stream in memory.
+ * When placed on the client interface, it applies to all its methods.
+ *
+ * @author Jérémy Brixhe
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Prefetch {
+
+    /**
+     * The number of elements requested ahead of the subscriber.
+     */
+    int value() default 32;
+}
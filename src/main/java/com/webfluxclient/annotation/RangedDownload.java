@@ -0,0 +1,42 @@
+package com.webfluxclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Download the body of a {@link DownloadTo} method as byte ranges fetched concurrently.
+ * A {@code HEAD} request gives the size of the body, which is split in up to {@link #parts()} ranges of at least
+ * {@link #minPartBytes()}, each written at its offset in the file. A failed range is retried on its own from the
+ * last byte written, and the ranges completed by a failed download are skipped by the next download of the same file.
+ * A range that failed partway is fetched again from its start by that next download. A range answered with a full
+ * {@code 200} response means the entity changed, and fails the download with an
+ * {@link com.webfluxclient.EntityChangedException} without retrying. A download resumes only when the size and
+ * the strong entity tag, or else the last modification date, of the body didn't change.
+ * Servers that don't advertise {@code Accept-Ranges: bytes}, and small bodies, are downloaded with a single request.
+ * The method must have a {@link DownloadTo} parameter, otherwise building the client fails.
+ *
+ * @author Jérémy Brixhe
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RangedDownload {
+
+    /**
+     * The maximum number of ranges fetched concurrently.
+     */
+    int parts() default 4;
+
+    /**
+     * The minimum size in bytes of a range.
+     */
+    long minPartBytes() default 8 * 1024 * 1024;
+
+    /**
+     * The number of times a range is retried.
+     */
+    int maxRetries() default 3;
+}
@@ -0,0 +1,35 @@
+package com.webfluxclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limit the rate of the requests sent by a client method.
+ * When placed on the client interface, the limit is shared by all its methods.
+ *
+ * @author Jérémy Brixhe
+ * @see com.webfluxclient.RateLimiters#tokenBucket
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimit {
+
+    /**
+     * The sustained number of requests per second.
+     */
+    double permitsPerSecond();
+
+    /**
+     * The number of requests that can be sent at once.
+     */
+    int burst() default 1;
+
+    /**
+     * The longest time in milliseconds a request waits for a permit before being rejected.
+     */
+    long maxWaitMillis() default Long.MAX_VALUE;
+}
@@ -0,0 +1,55 @@
+package com.webfluxclient.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Copy of the first bytes of a body, the buffers going through are read without being consumed or retained.
+ */
+class BodyCapture {
+    static final int LIMIT = 4096;
+
+    private byte[] bytes;
+    private int length;
+    private long total;
+    private boolean file;
+
+    void append(DataBuffer dataBuffer) {
+        int readable = dataBuffer.readableByteCount();
+        total += readable;
+        if (length < LIMIT && readable > 0) {
+            if (bytes == null) {
+                bytes = new byte[LIMIT];
+            }
+            ByteBuffer byteBuffer = dataBuffer.asByteBuffer();
+            int captured = Math.min(LIMIT - length, byteBuffer.remaining());
+            byteBuffer.get(bytes, length, captured);
+            length += captured;
+        }
+    }
+
+    /**
+     * Record a file body written without going through buffers, only its size is reported.
+     */
+    void appendFile(long count) {
+        file = true;
+        total += count;
+    }
+
+    String toString(MediaType contentType) {
+        if (file) {
+            return "<file body " + total + " bytes>";
+        }
+        Charset charset = contentType != null && contentType.getCharset() != null ?
+                contentType.getCharset() :
+                StandardCharsets.UTF_8;
+        String body = bytes == null ? "" : new String(bytes, 0, length, charset);
+        return total > length ?
+                body + "... (" + total + " bytes)" :
+                body;
+    }
+}
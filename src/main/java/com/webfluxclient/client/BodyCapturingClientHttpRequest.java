@@ -0,0 +1,63 @@
+package com.webfluxclient.client;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.File;
+import java.util.function.Consumer;
+
+/**
+ * Capture the first bytes of the body while it is written, the capture is handed to the listener once the write terminates.
+ */
+class BodyCapturingClientHttpRequest extends ClientHttpRequestDecorator {
+    final Consumer<BodyCapture> bodyListener;
+
+    BodyCapturingClientHttpRequest(ClientHttpRequest delegate, Consumer<BodyCapture> bodyListener) {
+        super(delegate);
+        this.bodyListener = bodyListener;
+    }
+
+    static ClientHttpRequest of(ClientHttpRequest delegate, Consumer<BodyCapture> bodyListener) {
+        return delegate instanceof ZeroCopyHttpOutputMessage ?
+                new ZeroCopy(delegate, bodyListener) :
+                new BodyCapturingClientHttpRequest(delegate, bodyListener);
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        BodyCapture bodyCapture = new BodyCapture();
+        return super.writeWith(Flux.from(body).doOnNext(bodyCapture::append))
+                .doFinally(signalType -> bodyListener.accept(bodyCapture));
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        BodyCapture bodyCapture = new BodyCapture();
+        return super.writeAndFlushWith(Flux.from(body).map(chunk -> Flux.from(chunk).doOnNext(bodyCapture::append)))
+                .doFinally(signalType -> bodyListener.accept(bodyCapture));
+    }
+
+    /**
+     * Keep the zero-copy file transfers of the request available, a file body is reported by its size without being read.
+     */
+    private static class ZeroCopy extends BodyCapturingClientHttpRequest implements ZeroCopyHttpOutputMessage {
+
+        ZeroCopy(ClientHttpRequest delegate, Consumer<BodyCapture> bodyListener) {
+            super(delegate, bodyListener);
+        }
+
+        @Override
+        public Mono<Void> writeWith(File file, long position, long count) {
+            BodyCapture bodyCapture = new BodyCapture();
+            bodyCapture.appendFile(count);
+            return ((ZeroCopyHttpOutputMessage) getDelegate())
+                    .writeWith(file, position, count)
+                    .doFinally(signalType -> bodyListener.accept(bodyCapture));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.webfluxclient.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Flux;
+
+import java.util.function.Consumer;
+
+/**
+ * Capture the first bytes of the body while it is extracted, the capture is handed to the listener once the body terminates.
+ */
+class BodyCapturingClientResponse extends BodyDecoratingClientResponse {
+    private final Consumer<BodyCapture> bodyListener;
+
+    BodyCapturingClientResponse(ClientResponse delegate, Consumer<BodyCapture> bodyListener) {
+        super(delegate);
+        this.bodyListener = bodyListener;
+    }
+
+    @Override
+    protected Flux<DataBuffer> decorateBody(Flux<DataBuffer> body) {
+        BodyCapture bodyCapture = new BodyCapture();
+        return body
+                .doOnNext(bodyCapture::append)
+                .doFinally(signalType -> bodyListener.accept(bodyCapture));
+    }
+}
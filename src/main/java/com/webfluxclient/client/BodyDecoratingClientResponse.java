@@ -0,0 +1,101 @@
+package com.webfluxclient.client;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.http.client.reactive.ClientHttpResponseDecorator;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyExtractor;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * {@link ClientResponse} decorating the body buffers whatever the extractor used to read them.
+ */
+abstract class BodyDecoratingClientResponse implements ClientResponse {
+    private final ClientResponse delegate;
+
+    BodyDecoratingClientResponse(ClientResponse delegate) {
+        this.delegate = delegate;
+    }
+
+    protected abstract Flux<DataBuffer> decorateBody(Flux<DataBuffer> body);
+
+    @Override
+    public HttpStatus statusCode() {
+        return delegate.statusCode();
+    }
+
+    @Override
+    public Headers headers() {
+        return delegate.headers();
+    }
+
+    @Override
+    public MultiValueMap<String, ResponseCookie> cookies() {
+        return delegate.cookies();
+    }
+
+    @Override
+    public <T> T body(BodyExtractor<T, ? super ClientHttpResponse> extractor) {
+        return delegate.body((inputMessage, context) -> extractor.extract(new ClientHttpResponseDecorator(inputMessage) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return decorateBody(super.getBody());
+            }
+        }, context));
+    }
+
+    @Override
+    public <T> Mono<T> bodyToMono(Class<? extends T> elementClass) {
+        return body(BodyExtractors.toMono(elementClass));
+    }
+
+    @Override
+    public <T> Mono<T> bodyToMono(ParameterizedTypeReference<T> typeReference) {
+        return body(BodyExtractors.toMono(typeReference));
+    }
+
+    @Override
+    public <T> Flux<T> bodyToFlux(Class<? extends T> elementClass) {
+        return body(BodyExtractors.toFlux(elementClass));
+    }
+
+    @Override
+    public <T> Flux<T> bodyToFlux(ParameterizedTypeReference<T> typeReference) {
+        return body(BodyExtractors.toFlux(typeReference));
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<T>> toEntity(Class<T> bodyType) {
+        return toEntity(bodyToMono(bodyType));
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<T>> toEntity(ParameterizedTypeReference<T> typeReference) {
+        return toEntity(bodyToMono(typeReference));
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<List<T>>> toEntityList(Class<T> elementType) {
+        return toEntity(this.<T>bodyToFlux(elementType).collectList());
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<List<T>>> toEntityList(ParameterizedTypeReference<T> typeReference) {
+        return toEntity(bodyToFlux(typeReference).collectList());
+    }
+
+    private <T> Mono<ResponseEntity<T>> toEntity(Mono<T> body) {
+        return body
+                .map(value -> new ResponseEntity<>(value, headers().asHttpHeaders(), statusCode()))
+                .switchIfEmpty(Mono.defer(() -> Mono.just(new ResponseEntity<>(headers().asHttpHeaders(), statusCode()))));
+    }
+}
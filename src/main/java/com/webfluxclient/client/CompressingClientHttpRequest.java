@@ -0,0 +1,294 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.Compression;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.core.publisher.Operators;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compress the request body when it reaches a threshold.
+ * The buffers are held until the threshold is reached or the body completes, since the {@code Content-Encoding}
+ * must be known before the headers are sent. Past that point the body is compressed as it streams,
+ * each buffer being flushed through the compressor so the request keeps following its publisher.
+ */
+class CompressingClientHttpRequest extends ClientHttpRequestDecorator {
+    private final String encoding;
+    private final long thresholdBytes;
+
+    CompressingClientHttpRequest(ClientHttpRequest delegate, String encoding, long thresholdBytes) {
+        super(delegate);
+        this.encoding = encoding;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        if (getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return super.writeWith(body);
+        }
+        return Mono.defer(() -> {
+            Head head = new Head(thresholdBytes);
+            Flux.from(body).subscribe(head);
+            return head.content()
+                    .flatMap(content -> {
+                        if (!head.isThresholdReached()) {
+                            return super.writeWith(content);
+                        }
+                        getHeaders().set(HttpHeaders.CONTENT_ENCODING, encoding);
+                        getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                        return super.writeWith(compress(content));
+                    })
+                    .doFinally(signalType -> head.discard());
+        });
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        return writeWith(Flux.from(body).concatMap(Flux::from));
+    }
+
+    private Flux<DataBuffer> compress(Flux<DataBuffer> content) {
+        return Flux.defer(() -> {
+            Compressor compressor = new Compressor(encoding);
+            return content
+                    .map(compressor::compress)
+                    .concatWith(Mono.fromCallable(compressor::finish))
+                    .filter(bytes -> bytes.length > 0)
+                    .map(bytes -> bufferFactory().wrap(bytes))
+                    .doFinally(signalType -> compressor.close());
+        });
+    }
+
+    private static class Compressor {
+        private final ByteArrayOutputStream compressed;
+        private final DeflaterOutputStream outputStream;
+
+        Compressor(String encoding) {
+            this.compressed = new ByteArrayOutputStream();
+            try {
+                this.outputStream = Compression.GZIP.equals(encoding) ?
+                        new GZIPOutputStream(compressed, true) :
+                        new DeflaterOutputStream(compressed, true);
+            }
+            catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+
+        byte[] compress(DataBuffer dataBuffer) {
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            DataBufferUtils.release(dataBuffer);
+            try {
+                outputStream.write(bytes);
+                outputStream.flush();
+            }
+            catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+            return drain();
+        }
+
+        byte[] finish() throws IOException {
+            outputStream.finish();
+            return drain();
+        }
+
+        void close() {
+            try {
+                outputStream.close();
+            }
+            catch (IOException e) {
+                // the compressed bytes are in memory
+            }
+        }
+
+        private byte[] drain() {
+            byte[] bytes = compressed.toByteArray();
+            compressed.reset();
+            return bytes;
+        }
+    }
+
+    /**
+     * Read the body up to the threshold, then hand the rest of it over to the subscriber of {@link #tail()},
+     * which drives the demand of the body from there. A write that ends before the tail is subscribed,
+     * whether cancelled or failed, {@link #discard() discards} the head buffers not written yet.
+     */
+    private static class Head implements Subscriber<DataBuffer>, Subscription {
+        private final long thresholdBytes;
+        private final MonoProcessor<Flux<DataBuffer>> head;
+        private final Deque<DataBuffer> buffers;
+        private long size;
+        private volatile Subscription upstream;
+        private Subscriber<? super DataBuffer> tail;
+        private boolean completed;
+        private boolean discarded;
+        private Throwable error;
+
+        Head(long thresholdBytes) {
+            this.thresholdBytes = thresholdBytes;
+            this.head = MonoProcessor.create();
+            this.buffers = new ArrayDeque<>();
+        }
+
+        /**
+         * @return the whole body once the head is read, its buffers are handed over one at a time
+         */
+        Mono<Flux<DataBuffer>> content() {
+            return head;
+        }
+
+        boolean isThresholdReached() {
+            return size > 0 && size >= thresholdBytes;
+        }
+
+        Flux<DataBuffer> tail() {
+            return Flux.from(subscriber -> {
+                synchronized (this) {
+                    if (error != null) {
+                        Operators.error(subscriber, error);
+                        return;
+                    }
+                    if (completed) {
+                        Operators.complete(subscriber);
+                        return;
+                    }
+                    tail = subscriber;
+                }
+                subscriber.onSubscribe(this);
+            });
+        }
+
+        /**
+         * Cancel the body and release the buffers held, unless the tail already drives the body.
+         */
+        void discard() {
+            List<DataBuffer> released;
+            synchronized (this) {
+                if (discarded || tail != null) {
+                    return;
+                }
+                discarded = true;
+                released = new ArrayList<>(buffers);
+                buffers.clear();
+            }
+            Subscription subscription = upstream;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            released.forEach(DataBufferUtils::release);
+        }
+
+        private Flux<DataBuffer> headContent() {
+            return Flux.<DataBuffer>generate(sink -> {
+                DataBuffer dataBuffer;
+                synchronized (this) {
+                    dataBuffer = buffers.poll();
+                }
+                if (dataBuffer == null) {
+                    sink.complete();
+                }
+                else {
+                    sink.next(dataBuffer);
+                }
+            }).concatWith(tail());
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            synchronized (this) {
+                if (discarded) {
+                    subscription.cancel();
+                    return;
+                }
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(DataBuffer dataBuffer) {
+            if (tail != null) {
+                tail.onNext(dataBuffer);
+                return;
+            }
+            boolean thresholdReached;
+            synchronized (this) {
+                if (discarded) {
+                    DataBufferUtils.release(dataBuffer);
+                    return;
+                }
+                buffers.add(dataBuffer);
+                size += dataBuffer.readableByteCount();
+                thresholdReached = isThresholdReached();
+            }
+            if (thresholdReached) {
+                head.onNext(headContent());
+            }
+            else {
+                upstream.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            Subscriber<? super DataBuffer> subscriber;
+            synchronized (this) {
+                subscriber = tail;
+                error = throwable;
+            }
+            if (subscriber != null) {
+                subscriber.onError(throwable);
+            }
+            else if (!head.isTerminated()) {
+                discard();
+                head.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            Subscriber<? super DataBuffer> subscriber;
+            synchronized (this) {
+                subscriber = tail;
+                completed = true;
+            }
+            if (subscriber != null) {
+                subscriber.onComplete();
+            }
+            else if (!head.isTerminated()) {
+                head.onNext(headContent());
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+}
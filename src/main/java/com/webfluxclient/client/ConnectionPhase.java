@@ -0,0 +1,12 @@
+package com.webfluxclient.client;
+
+public enum ConnectionPhase {
+    /** From the creation of the channel until it starts connecting, which covers the name resolution. */
+    RESOLUTION,
+
+    /** TCP connection. */
+    CONNECT,
+
+    /** TLS handshake, only for secured connections. */
+    TLS_HANDSHAKE
+}
@@ -0,0 +1,71 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.ExchangeTimingListener;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.ssl.SslHandler;
+
+import java.net.SocketAddress;
+
+/**
+ * Measure the establishment of a new connection and remove itself once the connection is ready.
+ * The resolution is measured from the initialization of the channel until it starts connecting.
+ */
+class ConnectionTimingHandler extends ChannelDuplexHandler {
+    static final String NAME = ConnectionTimingHandler.class.getName();
+
+    private final ExchangeTimingListener exchangeTimingListener;
+    private long initNanos;
+    private long connectStartNanos;
+
+    private ConnectionTimingHandler(ExchangeTimingListener exchangeTimingListener) {
+        this.exchangeTimingListener = exchangeTimingListener;
+    }
+
+    static void install(Channel channel, ExchangeTimingListener exchangeTimingListener) {
+        if (channel.pipeline().get(NAME) == null && !channel.isActive()) {
+            channel.pipeline().addFirst(NAME, new ConnectionTimingHandler(exchangeTimingListener));
+        }
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        initNanos = System.nanoTime();
+    }
+
+    @Override
+    public void connect(ChannelHandlerContext ctx, SocketAddress remoteAddress, SocketAddress localAddress, ChannelPromise promise) {
+        connectStartNanos = System.nanoTime();
+        promise.addListener(future -> {
+            if (future.isSuccess()) {
+                onConnected(ctx, remoteAddress);
+            }
+            else {
+                ctx.pipeline().remove(this);
+            }
+        });
+        ctx.connect(remoteAddress, localAddress, promise);
+    }
+
+    private void onConnected(ChannelHandlerContext ctx, SocketAddress remoteAddress) {
+        long connectedNanos = System.nanoTime();
+        SslHandler sslHandler = ctx.pipeline().get(SslHandler.class);
+        if (sslHandler == null) {
+            ready(ctx, remoteAddress, connectedNanos, -1);
+        }
+        else {
+            sslHandler.handshakeFuture().addListener(future -> ready(ctx, remoteAddress, connectedNanos, future.isSuccess() ? System.nanoTime() - connectedNanos : -1));
+        }
+    }
+
+    private void ready(ChannelHandlerContext ctx, SocketAddress remoteAddress, long connectedNanos, long tlsHandshakeNanos) {
+        ctx.pipeline().remove(this);
+        exchangeTimingListener.onConnection(new ConnectionTimings(
+                remoteAddress,
+                connectStartNanos - initNanos,
+                connectedNanos - connectStartNanos,
+                tlsHandshakeNanos));
+    }
+}
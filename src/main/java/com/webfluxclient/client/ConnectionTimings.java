@@ -0,0 +1,40 @@
+package com.webfluxclient.client;
+
+import java.net.SocketAddress;
+
+/**
+ * Durations in nanoseconds of the establishment of a new connection.
+ */
+public class ConnectionTimings {
+    private final SocketAddress remoteAddress;
+    private final long resolutionNanos;
+    private final long connectNanos;
+    private final long tlsHandshakeNanos;
+
+    ConnectionTimings(SocketAddress remoteAddress, long resolutionNanos, long connectNanos, long tlsHandshakeNanos) {
+        this.remoteAddress = remoteAddress;
+        this.resolutionNanos = resolutionNanos;
+        this.connectNanos = connectNanos;
+        this.tlsHandshakeNanos = tlsHandshakeNanos;
+    }
+
+    public SocketAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    /**
+     * @return the duration of the phase, or {@code -1} when the phase didn't happen
+     */
+    public long getDuration(ConnectionPhase connectionPhase) {
+        switch (connectionPhase) {
+            case RESOLUTION:
+                return resolutionNanos;
+            case CONNECT:
+                return connectNanos;
+            case TLS_HANDSHAKE:
+                return tlsHandshakeNanos;
+            default:
+                throw new IllegalArgumentException("Unknown connection phase: " + connectionPhase);
+        }
+    }
+}
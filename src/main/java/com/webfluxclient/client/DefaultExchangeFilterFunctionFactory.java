@@ -1,9 +1,17 @@
 package com.webfluxclient.client;
 
+import com.webfluxclient.AccessLog;
+import com.webfluxclient.ClientOptions;
+import com.webfluxclient.Compression;
+import com.webfluxclient.ExchangeTimingListener;
 import com.webfluxclient.LogLevel;
+import com.webfluxclient.LogSampling;
 import com.webfluxclient.Logger;
+import com.webfluxclient.RateLimiter;
 import com.webfluxclient.RequestProcessor;
 import com.webfluxclient.ResponseProcessor;
+import com.webfluxclient.Tracer;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 
 import java.util.List;
@@ -12,9 +20,16 @@ import static com.webfluxclient.client.ExchangeFilterFunctions.requestProcessorF
 import static com.webfluxclient.client.ExchangeFilterFunctions.responseInterceptorFilter;
 
 public class DefaultExchangeFilterFunctionFactory implements ExchangeFilterFunctionFactory {
+    private static final boolean flightRecorderPresent = ClassUtils.isPresent("jdk.jfr.Event", DefaultExchangeFilterFunctionFactory.class.getClassLoader());
 
     @Override
-    public ExchangeFilterFunction build(List<RequestProcessor> requestProcessors, List<ResponseProcessor> responseProcessors, Logger logger, LogLevel logLevel) {
+    public ExchangeFilterFunction build(List<RequestProcessor> requestProcessors, List<ResponseProcessor> responseProcessors, Logger logger, LogLevel logLevel, ClientOptions options) {
+        RateLimiter rateLimiter = options.getRateLimiter();
+        ExchangeTimingListener exchangeTimingListener = options.getExchangeTimingListener();
+        Tracer tracer = options.getTracer();
+        AccessLog accessLog = options.getAccessLog();
+        LogSampling logSampling = options.getLogSampling();
+        Compression compression = options.getCompression();
         ExchangeFilterFunction exchangeFilterFunction = null;
         if (!requestProcessors.isEmpty()) {
             RequestProcessor requestProcessor = requestProcessors.stream()
@@ -24,13 +39,50 @@ public class DefaultExchangeFilterFunctionFactory implements ExchangeFilterFunct
             exchangeFilterFunction = requestProcessorFilter(requestProcessor);
         }
 
+        if (rateLimiter != null) {
+            ExchangeFilterFunction rateLimiterFilter = ExchangeFilterFunctions.rateLimiterFilter(rateLimiter);
+            exchangeFilterFunction = exchangeFilterFunction == null?
+                    rateLimiterFilter :
+                    exchangeFilterFunction.andThen(rateLimiterFilter);
+        }
+
+        if (tracer != null) {
+            ExchangeFilterFunction tracingFilter = ExchangeFilterFunctions.tracingFilter(tracer);
+            exchangeFilterFunction = exchangeFilterFunction == null?
+                    tracingFilter :
+                    exchangeFilterFunction.andThen(tracingFilter);
+        }
+
         if (logger != null && logLevel != null) {
-            ExchangeFilterFunction loggingExchangeFilterFunction = ExchangeFilterFunctions.loggingFilter(logger, logLevel);
+            ExchangeFilterFunction loggingExchangeFilterFunction = ExchangeFilterFunctions.loggingFilter(logger, logLevel, logSampling);
             exchangeFilterFunction = exchangeFilterFunction == null?
                     loggingExchangeFilterFunction :
                     exchangeFilterFunction.andThen(loggingExchangeFilterFunction);
         }
 
+        if (accessLog != null) {
+            ExchangeFilterFunction accessLogFilter = ExchangeFilterFunctions.accessLogFilter(accessLog, logSampling);
+            exchangeFilterFunction = exchangeFilterFunction == null?
+                    accessLogFilter :
+                    exchangeFilterFunction.andThen(accessLogFilter);
+        }
+
+        // Inside the logging filters, so that they capture the request body before it is compressed,
+        // and outside the flight recorder, so that it counts the bytes actually sent
+        if (compression != null) {
+            ExchangeFilterFunction compressionFilter = ExchangeFilterFunctions.compressionFilter(compression);
+            exchangeFilterFunction = exchangeFilterFunction == null?
+                    compressionFilter :
+                    exchangeFilterFunction.andThen(compressionFilter);
+        }
+
+        if (flightRecorderPresent) {
+            ExchangeFilterFunction flightRecorderFilter = new FlightRecorderExchangeFilterFunction();
+            exchangeFilterFunction = exchangeFilterFunction == null?
+                    flightRecorderFilter :
+                    exchangeFilterFunction.andThen(flightRecorderFilter);
+        }
+
         if (!responseProcessors.isEmpty()) {
             ResponseProcessor responseProcessor = responseProcessors.stream()
                     .reduce(ResponseProcessor::andThen)
@@ -42,6 +94,13 @@ public class DefaultExchangeFilterFunctionFactory implements ExchangeFilterFunct
                     exchangeFilterFunction.andThen(responseInterceptorFilter);
         }
 
+        if (exchangeTimingListener != null) {
+            ExchangeFilterFunction exchangeTimingFilter = new ExchangeTimingExchangeFilterFunction(exchangeTimingListener);
+            exchangeFilterFunction = exchangeFilterFunction == null?
+                    exchangeTimingFilter :
+                    exchangeFilterFunction.andThen(exchangeTimingFilter);
+        }
+
         return exchangeFilterFunction;
     }
 }
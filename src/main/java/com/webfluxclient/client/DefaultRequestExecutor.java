@@ -12,9 +12,12 @@ public class DefaultRequestExecutor implements RequestExecutor {
     
     @Override
     public Mono<ClientResponse> execute(Request request) {
-        return webClient
+        WebClient.RequestBodySpec requestBodySpec = webClient
                 .method(request.httpMethod())
-                .uri(request.expand())
+                .uri(request.expand());
+        request.attributes().forEach(requestBodySpec::attribute);
+        
+        return requestBodySpec
                 .headers(headers -> headers.addAll(request.headers()))
                 .body(request.bodyInserter())
                 .exchange();
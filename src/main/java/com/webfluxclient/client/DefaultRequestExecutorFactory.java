@@ -1,16 +1,28 @@
 package com.webfluxclient.client;
 
+import com.webfluxclient.ClientOptions;
+import com.webfluxclient.EventLoops;
+import com.webfluxclient.ExchangeTimingListener;
+import com.webfluxclient.LocalHttpHandlers;
 import com.webfluxclient.codec.ExtendedClientCodecConfigurer;
+import com.webfluxclient.utils.DomainSockets;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeFunctions;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.net.URI;
+
 public class DefaultRequestExecutorFactory implements RequestExecutorFactory {
 
     @Override
-    public RequestExecutor build(ExtendedClientCodecConfigurer codecConfigurer, ExchangeFilterFunction exchangeFilterFunction) {
+    public RequestExecutor build(ExtendedClientCodecConfigurer codecConfigurer, ExchangeFilterFunction exchangeFilterFunction, ClientOptions options, URI uri) {
+        return requestExecutor(codecConfigurer, exchangeFilterFunction, clientHttpConnector(options, uri));
+    }
+
+    static RequestExecutor requestExecutor(ExtendedClientCodecConfigurer codecConfigurer, ExchangeFilterFunction exchangeFilterFunction, ClientHttpConnector clientHttpConnector) {
         ExchangeStrategies exchangeStrategies = ExtendedExchangeStrategies.of(codecConfigurer);
         WebClient webClient = WebClient
                 .builder()
@@ -19,9 +31,34 @@ public class DefaultRequestExecutorFactory implements RequestExecutorFactory {
                         exchangeFilterFunctions.add(exchangeFilterFunction);
                     }
                 })
-                .exchangeFunction(ExchangeFunctions.create(new ReactorClientHttpConnector(), exchangeStrategies))
+                .exchangeFunction(ExchangeFunctions.create(clientHttpConnector, exchangeStrategies))
                 .build();
 
         return new DefaultRequestExecutor(webClient);
     }
+
+    private ClientHttpConnector clientHttpConnector(ClientOptions clientOptions, URI uri) {
+        EventLoops eventLoops = clientOptions.getEventLoops();
+        ExchangeTimingListener exchangeTimingListener = clientOptions.getExchangeTimingListener();
+        LocalHttpHandlers localHttpHandlers = clientOptions.getLocalHttpHandlers();
+        ClientHttpConnector clientHttpConnector = new ReactorClientHttpConnector(options -> {
+            if (eventLoops != null) {
+                options.preferNative(eventLoops.isPreferNative())
+                        .loopResources(eventLoops.getLoopResources());
+            }
+            if (DomainSockets.isDomainSocket(uri)) {
+                DomainSocketLoopResources.configure(options, uri.getPath());
+            }
+            if (clientOptions.getCompression() != null) {
+                options.compression(true);
+            }
+            if (exchangeTimingListener != null) {
+                options.afterChannelInit(channel -> ConnectionTimingHandler.install(channel, exchangeTimingListener));
+            }
+        });
+        if (localHttpHandlers != null) {
+            clientHttpConnector = new LocalClientHttpConnector(localHttpHandlers, clientHttpConnector);
+        }
+        return exchangeTimingListener == null ? clientHttpConnector : new TimingClientHttpConnector(clientHttpConnector);
+    }
 }
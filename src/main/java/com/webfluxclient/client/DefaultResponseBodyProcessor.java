@@ -1,16 +1,26 @@
 package com.webfluxclient.client;
 
+import com.webfluxclient.DecodingOffload;
 import com.webfluxclient.codec.HttpErrorReader;
 import lombok.AllArgsConstructor;
 import org.reactivestreams.Publisher;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ReactiveHttpInputMessage;
 import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.reactive.function.BodyExtractor;
 import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 import static com.webfluxclient.utils.Types.isFlux;
@@ -19,54 +29,112 @@ import static com.webfluxclient.utils.Types.isVoid;
 
 @AllArgsConstructor
 public class DefaultResponseBodyProcessor implements ResponseBodyProcessor {
+    private static final boolean JACKSON_PRESENT = ClassUtils.isPresent("com.fasterxml.jackson.databind.ObjectMapper", DefaultResponseBodyProcessor.class.getClassLoader()) &&
+            ClassUtils.isPresent("com.fasterxml.jackson.core.async.ByteArrayFeeder", DefaultResponseBodyProcessor.class.getClassLoader());
+
     private List<HttpErrorReader> httpErrorReaders;
 
     @Override
-    public Object process(Mono<ClientResponse> monoResponse, ResolvableType bodyType) {
+    public Object process(Mono<ClientResponse> monoResponse, ResolvableType bodyType, DecodingOffload decodingOffload) {
         if (isMono(bodyType)) {
-            return toMono(monoResponse, bodyType.getGeneric(0).getRawClass());
+            return toMono(monoResponse, bodyType.getGeneric(0).getRawClass(), decodingOffload);
         }
         else if (isFlux(bodyType)) {
-            return toFlux(monoResponse, bodyType.getGeneric(0).getRawClass());
+            return toFlux(monoResponse, bodyType.getGeneric(0), decodingOffload);
         }
         else if (isVoid(bodyType)) {
             return toVoid(monoResponse);
         }
         else {
-            return toObject(monoResponse, bodyType.getRawClass());
+            return toObject(monoResponse, bodyType.getRawClass(), decodingOffload);
         }
     }
     
-    private <T> Mono<T> toMono(Mono<ClientResponse> monoResponse, Class<T> monoContentType) {
+    @Override
+    public Mono<Path> download(Mono<ClientResponse> monoResponse, Path destination) {
+        return monoResponse
+                .flatMap(response -> response.statusCode().isError() ?
+                        response.body(ErrorBodyExtractors.<Path>toMono(httpErrorReaders)) :
+                        response.body((inputMessage, context) -> write(inputMessage.getBody(), destination)));
+    }
+    
+    private <T> Mono<T> toMono(Mono<ClientResponse> monoResponse, Class<T> monoContentType, DecodingOffload decodingOffload) {
         return monoResponse
                 .flatMap(response -> bodyToPublisher(response,
-                                BodyExtractors.toMono(monoContentType),
-                                ErrorBodyExtractors.toMono(httpErrorReaders)));
+                                Void.class.equals(monoContentType) ? this.<T>discard() : BodyExtractors.toMono(monoContentType),
+                                ErrorBodyExtractors.toMono(httpErrorReaders),
+                                decodingOffload,
+                                true));
     }
     
-    private <T> Flux<T> toFlux(Mono<ClientResponse> monoResponse, Class<T> fluxContentType) {
+    private <T> Flux<T> toFlux(Mono<ClientResponse> monoResponse, ResolvableType elementType, DecodingOffload decodingOffload) {
         return monoResponse
                 .flatMapMany(response -> bodyToPublisher(response,
-                                BodyExtractors.toFlux(fluxContentType),
-                                ErrorBodyExtractors.toFlux(httpErrorReaders)));
+                                JACKSON_PRESENT && JsonStreamingBodyExtractor.isStreamable(elementType) ? new JsonStreamingBodyExtractor<T>(elementType) : TypedBodyExtractors.<T>toFlux(elementType),
+                                ErrorBodyExtractors.toFlux(httpErrorReaders),
+                                decodingOffload,
+                                false));
     }
     
-    private <T> T toObject(Mono<ClientResponse> monoResponse, Class<T> responseBodyType) {
-        return toMono(monoResponse, responseBodyType)
+    private <T> T toObject(Mono<ClientResponse> monoResponse, Class<T> responseBodyType, DecodingOffload decodingOffload) {
+        return toMono(monoResponse, responseBodyType, decodingOffload)
                 .block();
     }
     
     private Void toVoid(Mono<ClientResponse> monoResponse) {
         return monoResponse
-                .then()
+                .flatMap(response -> response.body(this.<Void>discard()))
                 .block();
     }
 
+    /**
+     * Read the body to its end and release it, so the connection is released and the exchange completes.
+     */
+    private <T> BodyExtractor<Mono<T>, ReactiveHttpInputMessage> discard() {
+        return (inputMessage, context) -> inputMessage.getBody()
+                .doOnNext(DataBufferUtils::release)
+                .then(Mono.<T>empty());
+    }
+
+    private Mono<Path> write(Flux<DataBuffer> body, Path destination) {
+        return Mono
+                .using(() -> AsynchronousFileChannel.open(destination, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING),
+                        channel -> DataBufferUtils.write(body, channel, 0)
+                                .doOnNext(DataBufferUtils::release)
+                                .then(Mono.just(destination)),
+                        DefaultResponseBodyProcessor::close)
+                .doOnError(throwable -> delete(destination));
+    }
+
+    private static void close(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        }
+        catch (IOException e) {
+            // the written buffers were already released
+        }
+    }
+
+    private static void delete(Path destination) {
+        try {
+            Files.deleteIfExists(destination);
+        }
+        catch (IOException e) {
+            // the partial file is left behind
+        }
+    }
+
     private <T extends Publisher<?>> T bodyToPublisher(ClientResponse response,
                                                        BodyExtractor<T, ? super ClientHttpResponse> bodyExtractor,
-                                                       BodyExtractor<T, ? super ClientHttpResponse> errorBodyExtractor) {
-        return response.statusCode().isError() ?
-                response.body(errorBodyExtractor) :
-                response.body(bodyExtractor);
+                                                       BodyExtractor<T, ? super ClientHttpResponse> errorBodyExtractor,
+                                                       DecodingOffload decodingOffload,
+                                                       boolean aggregated) {
+        if (response.statusCode().isError()) {
+            return response.body(errorBodyExtractor);
+        }
+        if (decodingOffload == null) {
+            return response.body(bodyExtractor);
+        }
+        return response.body((inputMessage, context) -> bodyExtractor.extract(new OffloadingClientHttpResponse(inputMessage, decodingOffload, aggregated), context));
     }
 }
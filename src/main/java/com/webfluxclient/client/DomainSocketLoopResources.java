@@ -0,0 +1,83 @@
+package com.webfluxclient.client;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import reactor.ipc.netty.http.client.HttpClientOptions;
+import reactor.ipc.netty.resources.LoopResources;
+
+/**
+ * Epoll event loops opening {@link EpollDomainSocketChannel}s, shared by the clients of a Unix domain socket.
+ * Requires {@code netty-transport-native-epoll} on Linux.
+ */
+class DomainSocketLoopResources implements LoopResources {
+    private static volatile DomainSocketLoopResources instance;
+
+    private final EventLoopGroup eventLoopGroup;
+
+    private DomainSocketLoopResources() {
+        this.eventLoopGroup = new EpollEventLoopGroup(DEFAULT_IO_WORKER_COUNT, new DefaultThreadFactory("webfluxclient-uds", true));
+    }
+
+    /**
+     * Connect the client to a Unix domain socket instead of the host of the request URIs.
+     *
+     * @param options The options of the client.
+     * @param socketPath The path of the socket.
+     */
+    static void configure(HttpClientOptions.Builder options, String socketPath) {
+        DomainSocketAddress domainSocketAddress = new DomainSocketAddress(socketPath);
+        options.loopResources(get())
+                .connectAddress(() -> domainSocketAddress);
+    }
+
+    static DomainSocketLoopResources get() {
+        if (instance == null) {
+            synchronized (DomainSocketLoopResources.class) {
+                if (instance == null) {
+                    if (!Epoll.isAvailable()) {
+                        throw new IllegalStateException("Unix domain sockets require the native epoll transport", Epoll.unavailabilityCause());
+                    }
+                    instance = new DomainSocketLoopResources();
+                }
+            }
+        }
+        return instance;
+    }
+
+    @Override
+    public Class<? extends Channel> onChannel(EventLoopGroup group) {
+        return EpollDomainSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends ServerChannel> onServerChannel(EventLoopGroup group) {
+        return EpollServerDomainSocketChannel.class;
+    }
+
+    @Override
+    public EventLoopGroup onClient(boolean useNative) {
+        return eventLoopGroup;
+    }
+
+    @Override
+    public EventLoopGroup onServer(boolean useNative) {
+        return eventLoopGroup;
+    }
+
+    @Override
+    public boolean daemon() {
+        return true;
+    }
+
+    @Override
+    public boolean preferNative() {
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.webfluxclient.client;
 
+import com.webfluxclient.ClientOptions;
 import com.webfluxclient.LogLevel;
 import com.webfluxclient.Logger;
 import com.webfluxclient.RequestProcessor;
@@ -12,5 +13,6 @@ public interface ExchangeFilterFunctionFactory {
     ExchangeFilterFunction build(List<RequestProcessor> requestProcessors,
                                  List<ResponseProcessor> responseProcessors,
                                  Logger logger,
-                                 LogLevel logLevel);
+                                 LogLevel logLevel,
+                                 ClientOptions options);
 }
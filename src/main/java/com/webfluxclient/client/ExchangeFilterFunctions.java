@@ -1,11 +1,19 @@
 package com.webfluxclient.client;
 
+import com.webfluxclient.AccessLog;
+import com.webfluxclient.Compression;
 import com.webfluxclient.LogLevel;
+import com.webfluxclient.LogSampling;
 import com.webfluxclient.Logger;
+import com.webfluxclient.RateLimiter;
 import com.webfluxclient.RequestProcessor;
 import com.webfluxclient.ResponseProcessor;
+import com.webfluxclient.Tracer;
+import com.webfluxclient.metadata.MethodMetadata;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpRequest;
 import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
@@ -13,6 +21,7 @@ import org.springframework.web.reactive.function.client.ExchangeFunction;
 import reactor.core.publisher.Mono;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.springframework.web.reactive.function.client.ExchangeFilterFunction.ofRequestProcessor;
 import static org.springframework.web.reactive.function.client.ExchangeFilterFunction.ofResponseProcessor;
@@ -27,7 +36,21 @@ class ExchangeFilterFunctions {
         return ofResponseProcessor(clientResponse -> Mono.just(responseProcessor.process(clientResponse)));
     }
 
-    static ExchangeFilterFunction loggingFilter(Logger logger, LogLevel logLevel) {
+    static ExchangeFilterFunction rateLimiterFilter(RateLimiter rateLimiter) {
+        Assert.notNull(rateLimiter, "'rateLimiter' Can't be null");
+
+        return (clientRequest, exchangeFunction) -> rateLimiter.limit(() -> exchangeFunction.exchange(clientRequest));
+    }
+
+    static ExchangeFilterFunction tracingFilter(Tracer tracer) {
+        Assert.notNull(tracer, "'tracer' Can't be null");
+
+        return (clientRequest, exchangeFunction) -> tracer.isSampled(clientRequest) ?
+                traceClientRequest(clientRequest, exchangeFunction, tracer) :
+                exchangeFunction.exchange(clientRequest);
+    }
+
+    static ExchangeFilterFunction loggingFilter(Logger logger, LogLevel logLevel, LogSampling logSampling) {
         Assert.notNull(logger, "'logger' Can't be null");
         Assert.notNull(logLevel, "'logLevel' Can't be null");
 
@@ -35,15 +58,103 @@ class ExchangeFilterFunctions {
                 clientRequest,
                 exchangeFunction,
                 logger,
-                logLevel);
+                logLevel,
+                logSampling);
+    }
+
+    static ExchangeFilterFunction accessLogFilter(AccessLog accessLog, LogSampling logSampling) {
+        Assert.notNull(accessLog, "'accessLog' Can't be null");
+
+        return (clientRequest, exchangeFunction) -> Mono.defer(() -> {
+            boolean sampled = isSampled(logSampling);
+            long startMs = System.currentTimeMillis();
+            long startNs = System.nanoTime();
+            return exchangeFunction
+                    .exchange(clientRequest)
+                    .doOnNext(clientResponse -> {
+                        long tookNs = System.nanoTime() - startNs;
+                        if ((sampled || logSampling.isSlow(tookNs) || clientResponse.statusCode().isError()) && acquireLines(logSampling, 1)) {
+                            appendAccessLog(accessLog, clientRequest, startMs, clientResponse.statusCode().value(), null, tookNs);
+                        }
+                    })
+                    .doOnError(throwable -> {
+                        if (acquireLines(logSampling, 1)) {
+                            appendAccessLog(accessLog, clientRequest, startMs, 0, throwable.getClass(), System.nanoTime() - startNs);
+                        }
+                    });
+        });
+    }
+
+    static ExchangeFilterFunction compressionFilter(Compression compression) {
+        Assert.notNull(compression, "'compression' Can't be null");
+
+        return (clientRequest, exchangeFunction) -> {
+            ClientRequest.Builder compressedRequest = ClientRequest.from(clientRequest)
+                    .headers(headers -> {
+                        if (!headers.containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+                            headers.set(HttpHeaders.ACCEPT_ENCODING, Compression.GZIP + ", " + Compression.DEFLATE);
+                        }
+                    });
+            Object methodMetadata = clientRequest.attributes().get(MethodMetadata.METHOD_METADATA_ATTRIBUTE);
+            Long compressionThreshold = methodMetadata instanceof MethodMetadata ? ((MethodMetadata) methodMetadata).getCompressionThreshold() : null;
+            if (compressionThreshold != null) {
+                long thresholdBytes = compressionThreshold < 0 ? compression.getThresholdBytes() : compressionThreshold;
+                BodyInserter<?, ? super ClientHttpRequest> bodyInserter = clientRequest.body();
+                compressedRequest.body((outputMessage, context) -> bodyInserter.insert(
+                        new CompressingClientHttpRequest(outputMessage, compression.getEncoding(), thresholdBytes),
+                        context));
+            }
+            return exchangeFunction.exchange(compressedRequest.build());
+        };
+    }
+
+    private static boolean isSampled(LogSampling logSampling) {
+        return logSampling == null || logSampling.isSampled();
+    }
+
+    private static boolean acquireLines(LogSampling logSampling, int lines) {
+        return logSampling == null || logSampling.tryAcquire(lines);
+    }
+
+    private static void appendAccessLog(AccessLog accessLog, ClientRequest clientRequest, long startMs, int status, Class<?> errorType, long durationNs) {
+        Object methodMetadata = clientRequest.attributes().get(MethodMetadata.METHOD_METADATA_ATTRIBUTE);
+        accessLog.append(
+                startMs,
+                clientRequest.method(),
+                clientRequest.url(),
+                methodMetadata instanceof MethodMetadata ? ((MethodMetadata) methodMetadata).getTargetMethod() : null,
+                status,
+                errorType,
+                durationNs);
     }
 
-    private static Mono<ClientResponse> logClientRequest(ClientRequest clientRequest, ExchangeFunction exchangeFunction, Logger logger, LogLevel logLevel) {
-        boolean logHeaders = LogLevel.HEADERS.equals(logLevel);
+    private static Mono<ClientResponse> traceClientRequest(ClientRequest clientRequest, ExchangeFunction exchangeFunction, Tracer tracer) {
+        return Mono.defer(() -> {
+            Tracer.Span span = tracer.startSpan(clientRequest);
+            long startNs = System.nanoTime();
+            ClientRequest tracedRequest = ClientRequest.from(clientRequest)
+                    .headers(span::inject)
+                    .build();
+            return exchangeFunction
+                    .exchange(tracedRequest)
+                    .doOnNext(clientResponse -> span.end(clientResponse, null, System.nanoTime() - startNs))
+                    .doOnError(throwable -> span.end(null, throwable, System.nanoTime() - startNs))
+                    .doOnCancel(() -> span.end(null, null, System.nanoTime() - startNs));
+        });
+    }
+
+    private static Mono<ClientResponse> logClientRequest(ClientRequest clientRequest, ExchangeFunction exchangeFunction, Logger logger, LogLevel logLevel, LogSampling logSampling) {
+        boolean logBody = LogLevel.BODY.equals(logLevel);
+        boolean logHeaders = logBody || LogLevel.HEADERS.equals(logLevel);
         boolean logBasic = logHeaders || LogLevel.BASIC.equals(logLevel);
+        if (!logBasic) {
+            return exchangeFunction.exchange(clientRequest);
+        }
 
-        long startNs = logBasic? System.nanoTime() : 0;
-        if (logBasic) {
+        boolean sampled = isSampled(logSampling);
+        long startNs = System.nanoTime();
+        ClientRequest loggedRequest = clientRequest;
+        if (sampled && acquireLines(logSampling, logHeaders ? 4 + clientRequest.headers().size() : 3)) {
             logger.log(()-> "--> " + clientRequest.method() + ' ' + clientRequest.url());
             logger.log(()-> "Content-Type: " + clientRequest.headers().getContentType());
             if (logHeaders) {
@@ -54,20 +165,47 @@ class ExchangeFilterFunctions {
                 });
             }
             logger.log(() -> "--> END " + clientRequest.method());
+            if (logBody) {
+                loggedRequest = captureRequestBody(clientRequest, bodyCapture -> {
+                    if (acquireLines(logSampling, 1)) {
+                        logger.log(() -> "--> BODY " + clientRequest.method() + '\n' + bodyCapture.toString(clientRequest.headers().getContentType()));
+                    }
+                });
+            }
         }
         return exchangeFunction
-                .exchange(clientRequest)
-                .doOnEach(clientResponseSignal -> {
-                    ClientResponse response;
-                    if (logBasic && (response = clientResponseSignal.get()) != null) {
-                        long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs);
-                        logger.log("<-- " + response.statusCode() + ' ' + clientRequest.method() + ' ' + clientRequest.url() + " (" + tookMs + "ms)");
+                .exchange(loggedRequest)
+                .map(response -> {
+                    long tookNs = System.nanoTime() - startNs;
+                    if ((sampled || logSampling.isSlow(tookNs) || response.statusCode().isError()) && acquireLines(logSampling, logHeaders ? 3 + response.headers().asHttpHeaders().size() : 2)) {
+                        logger.log("<-- " + response.statusCode() + ' ' + clientRequest.method() + ' ' + clientRequest.url() + " (" + TimeUnit.NANOSECONDS.toMillis(tookNs) + "ms)");
                         if (logHeaders) {
                             logger.log("Headers:");
                             response.headers().asHttpHeaders().forEach((name, values) -> logger.log(()-> " - " + name + ": " + values));
                         }
                         logger.log(() -> "<-- END HTTP " + clientRequest.method());
+                        if (logBody) {
+                            return new BodyCapturingClientResponse(response, bodyCapture -> {
+                                if (acquireLines(logSampling, 1)) {
+                                    logger.log(() -> "<-- BODY " + clientRequest.method() + '\n' + bodyCapture.toString(response.headers().contentType().orElse(null)));
+                                }
+                            });
+                        }
+                    }
+                    return response;
+                })
+                .doOnError(throwable -> {
+                    if (acquireLines(logSampling, 1)) {
+                        long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs);
+                        logger.log(() -> "<-- FAILED " + clientRequest.method() + ' ' + clientRequest.url() + " (" + tookMs + "ms): " + throwable);
                     }
                 });
     }
+
+    private static ClientRequest captureRequestBody(ClientRequest clientRequest, Consumer<BodyCapture> bodyListener) {
+        BodyInserter<?, ? super ClientHttpRequest> bodyInserter = clientRequest.body();
+        return ClientRequest.from(clientRequest)
+                .body((outputMessage, context) -> bodyInserter.insert(BodyCapturingClientHttpRequest.of(outputMessage, bodyListener), context))
+                .build();
+    }
 }
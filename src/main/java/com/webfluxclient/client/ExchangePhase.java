@@ -0,0 +1,15 @@
+package com.webfluxclient.client;
+
+public enum ExchangePhase {
+    /** From the subscription of the exchange until a connection is ready: pool acquisition, and connection establishment for new connections. */
+    CONNECTION_ACQUIRE,
+
+    /** Writing the request headers and body. */
+    REQUEST_WRITE,
+
+    /** From the end of the request until the response headers are received. */
+    TIME_TO_FIRST_BYTE,
+
+    /** Reading the response body. */
+    RESPONSE_BODY
+}
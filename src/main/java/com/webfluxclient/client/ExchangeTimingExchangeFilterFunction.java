@@ -0,0 +1,37 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.ExchangeTimingListener;
+import com.webfluxclient.metadata.MethodMetadata;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Start the {@link ExchangeTimings} of every exchange and hand it to the {@link TimingClientHttpConnector}
+ * through the subscriber context, the connector records the transport phases.
+ * The exchange completes when the response body terminates, or when the exchange fails or is cancelled before the response.
+ */
+class ExchangeTimingExchangeFilterFunction implements ExchangeFilterFunction {
+    private final ExchangeTimingListener exchangeTimingListener;
+
+    ExchangeTimingExchangeFilterFunction(ExchangeTimingListener exchangeTimingListener) {
+        this.exchangeTimingListener = exchangeTimingListener;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest clientRequest, ExchangeFunction exchangeFunction) {
+        return Mono.defer(() -> {
+            Object methodMetadata = clientRequest.attributes().get(MethodMetadata.METHOD_METADATA_ATTRIBUTE);
+            ExchangeTimings exchangeTimings = new ExchangeTimings(
+                    methodMetadata instanceof MethodMetadata ? (MethodMetadata) methodMetadata : null,
+                    exchangeTimingListener);
+            return exchangeFunction
+                    .exchange(clientRequest)
+                    .doOnError(throwable -> exchangeTimings.complete())
+                    .doOnCancel(exchangeTimings::complete)
+                    .subscriberContext(context -> context.put(ExchangeTimings.class, exchangeTimings));
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.ExchangeTimingListener;
+import com.webfluxclient.metadata.MethodMetadata;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Timestamps of the phases of a single exchange, all durations are in nanoseconds.
+ */
+public class ExchangeTimings {
+    private final MethodMetadata methodMetadata;
+    private final ExchangeTimingListener exchangeTimingListener;
+    private final AtomicBoolean completed;
+    private final long startNanos;
+    private volatile long connectedNanos;
+    private volatile long requestWrittenNanos;
+    private volatile long responseNanos;
+    private volatile long completeNanos;
+
+    ExchangeTimings(MethodMetadata methodMetadata, ExchangeTimingListener exchangeTimingListener) {
+        this.methodMetadata = methodMetadata;
+        this.exchangeTimingListener = exchangeTimingListener;
+        this.completed = new AtomicBoolean();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * @return the metadata of the client method, or {@code null} when the request wasn't sent by a client proxy
+     */
+    public MethodMetadata getMethodMetadata() {
+        return methodMetadata;
+    }
+
+    /**
+     * @return the duration of the phase, or {@code -1} when the exchange ended before the phase completed
+     */
+    public long getDuration(ExchangePhase exchangePhase) {
+        switch (exchangePhase) {
+            case CONNECTION_ACQUIRE:
+                return duration(startNanos, connectedNanos);
+            case REQUEST_WRITE:
+                return duration(connectedNanos, requestWrittenNanos);
+            case TIME_TO_FIRST_BYTE:
+                return requestWrittenNanos != 0 && responseNanos != 0 ?
+                        Math.max(0, responseNanos - requestWrittenNanos) :
+                        duration(connectedNanos, responseNanos);
+            case RESPONSE_BODY:
+                return duration(responseNanos, completeNanos);
+            default:
+                throw new IllegalArgumentException("Unknown exchange phase: " + exchangePhase);
+        }
+    }
+
+    /**
+     * @return the duration from the subscription of the exchange until its end
+     */
+    public long getTotalDuration() {
+        return duration(startNanos, completeNanos);
+    }
+
+    void connected() {
+        connectedNanos = System.nanoTime();
+    }
+
+    void requestWritten() {
+        requestWrittenNanos = System.nanoTime();
+    }
+
+    void responseReceived() {
+        responseNanos = System.nanoTime();
+    }
+
+    void complete() {
+        if (completed.compareAndSet(false, true)) {
+            completeNanos = System.nanoTime();
+            exchangeTimingListener.onExchange(this);
+        }
+    }
+
+    private static long duration(long fromNanos, long toNanos) {
+        return fromNanos == 0 || toNanos == 0 ? -1 : toNanos - fromNanos;
+    }
+}
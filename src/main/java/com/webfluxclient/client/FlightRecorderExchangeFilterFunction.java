@@ -0,0 +1,151 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.metadata.MethodMetadata;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Emit a {@link HttpExchangeEvent} for every exchange.
+ * When the event is disabled, the exchange is delegated before anything is captured.
+ * The bytes written and read are counted as they go through, and the event ends when the response body terminates,
+ * or when the exchange fails or is cancelled before the response.
+ */
+class FlightRecorderExchangeFilterFunction implements ExchangeFilterFunction {
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest clientRequest, ExchangeFunction exchangeFunction) {
+        return Mono.defer(() -> {
+            HttpExchangeEvent event = new HttpExchangeEvent();
+            if (!event.isEnabled()) {
+                return exchangeFunction.exchange(clientRequest);
+            }
+            ExchangeRecording recording = new ExchangeRecording(event, clientRequest);
+            event.begin();
+            return exchangeFunction
+                    .exchange(recording.countRequestBody())
+                    .map(clientResponse -> {
+                        event.status = clientResponse.statusCode().value();
+                        return (ClientResponse) new BodyDecoratingClientResponse(clientResponse) {
+                            @Override
+                            protected Flux<DataBuffer> decorateBody(Flux<DataBuffer> body) {
+                                return recording.countResponseBody(body);
+                            }
+                        };
+                    })
+                    .doOnError(throwable -> {
+                        event.error = throwable.toString();
+                        recording.commit();
+                    })
+                    .doOnCancel(recording::commit);
+        });
+    }
+
+    private static class ExchangeRecording extends AtomicBoolean {
+        private final HttpExchangeEvent event;
+        private final ClientRequest clientRequest;
+        private final AtomicLong requestBytes;
+        private final AtomicLong responseBytes;
+
+        ExchangeRecording(HttpExchangeEvent event, ClientRequest clientRequest) {
+            this.event = event;
+            this.clientRequest = clientRequest;
+            this.requestBytes = new AtomicLong();
+            this.responseBytes = new AtomicLong();
+        }
+
+        ClientRequest countRequestBody() {
+            BodyInserter<?, ? super ClientHttpRequest> bodyInserter = clientRequest.body();
+            return ClientRequest.from(clientRequest)
+                    .body((outputMessage, context) -> bodyInserter.insert(
+                            outputMessage instanceof ZeroCopyHttpOutputMessage ?
+                                    new CountingZeroCopyClientHttpRequest(outputMessage, requestBytes) :
+                                    new CountingClientHttpRequest(outputMessage, requestBytes),
+                            context))
+                    .build();
+        }
+
+        Flux<DataBuffer> countResponseBody(Flux<DataBuffer> body) {
+            return body
+                    .doOnNext(dataBuffer -> responseBytes.addAndGet(dataBuffer.readableByteCount()))
+                    .doOnError(throwable -> event.error = throwable.toString())
+                    .doFinally(signalType -> commit());
+        }
+
+        void commit() {
+            if (!compareAndSet(false, true)) {
+                return;
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                Object methodMetadata = clientRequest.attributes().get(MethodMetadata.METHOD_METADATA_ATTRIBUTE);
+                if (methodMetadata instanceof MethodMetadata) {
+                    event.clientInterface = ((MethodMetadata) methodMetadata).getTargetType();
+                    event.clientMethod = ((MethodMetadata) methodMetadata).getTargetMethod().getName();
+                }
+                event.httpMethod = clientRequest.method().name();
+                event.uri = clientRequest.url().toString();
+                event.requestBytes = requestBytes.get();
+                event.responseBytes = responseBytes.get();
+                event.commit();
+            }
+        }
+    }
+
+    private static class CountingClientHttpRequest extends ClientHttpRequestDecorator {
+        private final AtomicLong bytes;
+
+        CountingClientHttpRequest(ClientHttpRequest delegate, AtomicLong bytes) {
+            super(delegate);
+            this.bytes = bytes;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).doOnNext(this::count));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body).map(chunk -> Flux.from(chunk).doOnNext(this::count)));
+        }
+
+        void addBytes(long count) {
+            bytes.addAndGet(count);
+        }
+
+        private void count(DataBuffer dataBuffer) {
+            addBytes(dataBuffer.readableByteCount());
+        }
+    }
+
+    /**
+     * Keep the zero-copy file transfers of the request available while counting them.
+     */
+    private static class CountingZeroCopyClientHttpRequest extends CountingClientHttpRequest implements ZeroCopyHttpOutputMessage {
+
+        CountingZeroCopyClientHttpRequest(ClientHttpRequest delegate, AtomicLong bytes) {
+            super(delegate, bytes);
+        }
+
+        @Override
+        public Mono<Void> writeWith(File file, long position, long count) {
+            return ((ZeroCopyHttpOutputMessage) getDelegate())
+                    .writeWith(file, position, count)
+                    .doOnSuccess(aVoid -> addBytes(count));
+        }
+    }
+}
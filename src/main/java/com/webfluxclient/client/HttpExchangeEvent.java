@@ -0,0 +1,51 @@
+package com.webfluxclient.client;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event spanning an exchange, from its subscription to the end of the response body.
+ * The byte counts are the bytes actually written and read, whatever the {@code Content-Length} declared.
+ * Only exchanges longer than the threshold are recorded, it can be changed in the recording settings.
+ */
+@Name(HttpExchangeEvent.NAME)
+@Label("HTTP Exchange")
+@Category({"Spring WebFlux Client"})
+@Description("HTTP exchange sent by a client proxy")
+@StackTrace(false)
+@Threshold("20 ms")
+class HttpExchangeEvent extends Event {
+    static final String NAME = "com.webfluxclient.HttpExchange";
+
+    @Label("Client Interface")
+    Class<?> clientInterface;
+
+    @Label("Client Method")
+    String clientMethod;
+
+    @Label("HTTP Method")
+    String httpMethod;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    int status;
+
+    @Label("Request Bytes")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Error")
+    String error;
+}
@@ -0,0 +1,190 @@
+package com.webfluxclient.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpInputMessage;
+import org.springframework.http.codec.DecoderHttpMessageReader;
+import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.web.reactive.function.BodyExtractor;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Decode a JSON body into a {@link Flux} element by element while the buffers arrive, with a non-blocking Jackson parser.
+ * The elements of a top level array, or the successive top level values of a JSON stream, are emitted as soon as
+ * they are complete. Only one buffer is requested ahead and each one is released once fed to the parser,
+ * so the memory used is bounded by the largest element whatever the size of the body.
+ * The {@link ObjectMapper} is the one of the configured {@link Jackson2JsonDecoder}, other bodies, such as server-sent events,
+ * use the regular readers, as do the raw element types ({@link DataBuffer}, {@code byte[]}, {@link ByteBuffer}, {@link String})
+ * whatever the content type.
+ */
+class JsonStreamingBodyExtractor<T> implements BodyExtractor<Flux<T>, ReactiveHttpInputMessage> {
+    private static final MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+
+    private final ResolvableType elementType;
+
+    JsonStreamingBodyExtractor(ResolvableType elementType) {
+        this.elementType = elementType;
+    }
+
+    @Override
+    public Flux<T> extract(ReactiveHttpInputMessage inputMessage, Context context) {
+        MediaType contentType = inputMessage.getHeaders().getContentType();
+        ObjectMapper objectMapper = isStreamable(elementType) && isJson(contentType) ? objectMapper(context.messageReaders()) : null;
+        if (objectMapper == null) {
+            return TypedBodyExtractors.<T>toFlux(elementType).extract(inputMessage, context);
+        }
+        ObjectReader objectReader = objectMapper.readerFor(objectMapper.getTypeFactory().constructType(elementType.getType()));
+        return Flux.defer(() -> {
+            Tokenizer tokenizer = new Tokenizer(objectMapper);
+            return inputMessage.getBody()
+                    .flatMapIterable(tokenizer::tokenize, 1)
+                    .concatWith(Mono.fromCallable(tokenizer::endOfInput).flatMapIterable(tokenBuffers -> tokenBuffers))
+                    .map(tokenBuffer -> this.<T>read(objectReader, tokenBuffer))
+                    .doFinally(signalType -> tokenizer.close());
+        });
+    }
+
+    /**
+     * @return whether elements of this type are decoded by Jackson, rather than by the raw readers
+     */
+    static boolean isStreamable(ResolvableType elementType) {
+        Class<?> elementClass = elementType.resolve(Object.class);
+        return !DataBuffer.class.isAssignableFrom(elementClass) &&
+                !ByteBuffer.class.isAssignableFrom(elementClass) &&
+                !byte[].class.equals(elementClass) &&
+                !String.class.equals(elementClass) &&
+                !ServerSentEvent.class.equals(elementClass);
+    }
+
+    private static boolean isJson(MediaType contentType) {
+        return contentType != null && (
+                MediaType.APPLICATION_JSON.isCompatibleWith(contentType) ||
+                MediaType.APPLICATION_STREAM_JSON.isCompatibleWith(contentType) ||
+                APPLICATION_NDJSON.isCompatibleWith(contentType) ||
+                contentType.getSubtype().endsWith("+json"));
+    }
+
+    private static ObjectMapper objectMapper(List<HttpMessageReader<?>> messageReaders) {
+        for (HttpMessageReader<?> messageReader : messageReaders) {
+            if (messageReader instanceof DecoderHttpMessageReader &&
+                    ((DecoderHttpMessageReader<?>) messageReader).getDecoder() instanceof Jackson2JsonDecoder) {
+                return ((Jackson2JsonDecoder) ((DecoderHttpMessageReader<?>) messageReader).getDecoder()).getObjectMapper();
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R read(ObjectReader objectReader, TokenBuffer tokenBuffer) {
+        try {
+            return (R) objectReader.readValue(tokenBuffer.asParser(objectReader));
+        }
+        catch (IOException e) {
+            throw Exceptions.propagate(new DecodingException("JSON decoding error: " + e.getMessage(), e));
+        }
+    }
+
+    private static class Tokenizer {
+        private final JsonParser parser;
+        private final ByteArrayFeeder inputFeeder;
+        private TokenBuffer tokenBuffer;
+        private int depth;
+        private boolean started;
+        private boolean topLevelArray;
+
+        Tokenizer(ObjectMapper objectMapper) {
+            try {
+                this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            }
+            catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+            this.inputFeeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        List<TokenBuffer> tokenize(DataBuffer dataBuffer) {
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            DataBufferUtils.release(dataBuffer);
+            try {
+                inputFeeder.feedInput(bytes, 0, bytes.length);
+                return parseTokens();
+            }
+            catch (IOException e) {
+                throw Exceptions.propagate(new DecodingException("JSON decoding error: " + e.getMessage(), e));
+            }
+        }
+
+        List<TokenBuffer> endOfInput() throws IOException {
+            inputFeeder.endOfInput();
+            List<TokenBuffer> tokenBuffers = parseTokens();
+            if (tokenBuffer != null) {
+                throw new DecodingException("Incomplete JSON element at the end of the body");
+            }
+            return tokenBuffers;
+        }
+
+        void close() {
+            try {
+                parser.close();
+            }
+            catch (IOException e) {
+                // nothing left to release
+            }
+        }
+
+        private List<TokenBuffer> parseTokens() throws IOException {
+            List<TokenBuffer> tokenBuffers = Collections.emptyList();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (!started) {
+                    started = true;
+                    if (token == JsonToken.START_ARRAY) {
+                        topLevelArray = true;
+                        continue;
+                    }
+                }
+                if (topLevelArray && depth == 0 && token == JsonToken.END_ARRAY) {
+                    continue;
+                }
+                if (tokenBuffer == null) {
+                    tokenBuffer = new TokenBuffer(parser);
+                }
+                tokenBuffer.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    depth++;
+                }
+                else if (token.isStructEnd()) {
+                    depth--;
+                }
+                if (depth == 0 && (token.isStructEnd() || token.isScalarValue())) {
+                    if (tokenBuffers.isEmpty()) {
+                        tokenBuffers = new ArrayList<>(4);
+                    }
+                    tokenBuffers.add(tokenBuffer);
+                    tokenBuffer = null;
+                }
+            }
+            return tokenBuffers;
+        }
+    }
+}
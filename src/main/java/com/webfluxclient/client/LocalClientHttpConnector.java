@@ -0,0 +1,42 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.LocalHttpHandlers;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Send the requests under a base URI registered in {@link LocalHttpHandlers} to the local handler,
+ * and the others to the network connector.
+ * The lookup happens on every request, a service registered after the client is built is picked up.
+ */
+class LocalClientHttpConnector implements ClientHttpConnector {
+    private final LocalHttpHandlers localHttpHandlers;
+    private final ClientHttpConnector delegate;
+    private final Map<LocalHttpHandlers.Registration, ClientHttpConnector> loopbackConnectors;
+
+    LocalClientHttpConnector(LocalHttpHandlers localHttpHandlers, ClientHttpConnector delegate) {
+        this.localHttpHandlers = localHttpHandlers;
+        this.delegate = delegate;
+        this.loopbackConnectors = Collections.synchronizedMap(new WeakHashMap<>());
+    }
+
+    @Override
+    public Mono<ClientHttpResponse> connect(HttpMethod method, URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+        LocalHttpHandlers.Registration registration = localHttpHandlers.lookup(uri);
+        if (registration == null) {
+            return delegate.connect(method, uri, requestCallback);
+        }
+        return loopbackConnectors
+                .computeIfAbsent(registration, key -> new LoopbackClientHttpConnector(key.getHttpHandler(), key.getContextPath()))
+                .connect(method, uri, requestCallback);
+    }
+}
@@ -0,0 +1,271 @@
+package com.webfluxclient.client;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.client.reactive.AbstractClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.http.server.RequestPath;
+import org.springframework.http.server.reactive.AbstractServerHttpResponse;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Dispatch the requests to an {@link HttpHandler} of the same JVM.
+ * The request and response {@link DataBuffer}s are handed over as they are, without a socket nor HTTP parsing.
+ * The response body completes with the handler, so a handler failing after the response is committed fails the body.
+ */
+class LoopbackClientHttpConnector implements ClientHttpConnector {
+    private final HttpHandler httpHandler;
+    private final String contextPath;
+    private final DataBufferFactory bufferFactory;
+
+    LoopbackClientHttpConnector(HttpHandler httpHandler, String contextPath) {
+        this.httpHandler = httpHandler;
+        this.contextPath = contextPath;
+        this.bufferFactory = new DefaultDataBufferFactory();
+    }
+
+    @Override
+    public Mono<ClientHttpResponse> connect(HttpMethod method, URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+        return Mono.defer(() -> {
+            MonoProcessor<ClientHttpResponse> clientResponse = MonoProcessor.create();
+            MonoProcessor<Void> handled = MonoProcessor.create();
+            LoopbackServerHttpResponse serverResponse = new LoopbackServerHttpResponse(bufferFactory, clientResponse, handled);
+            LoopbackClientHttpRequest clientRequest = new LoopbackClientHttpRequest(method, uri, contextPath, bufferFactory, serverRequest -> {
+                httpHandler
+                        .handle(serverRequest, serverResponse)
+                        .then(Mono.defer(serverResponse::setComplete))
+                        .subscribe(
+                                null,
+                                throwable -> {
+                                    if (clientResponse.isTerminated()) {
+                                        handled.onError(throwable);
+                                    }
+                                    else {
+                                        clientResponse.onError(throwable);
+                                    }
+                                },
+                                handled::onComplete);
+                return Mono.empty();
+            });
+            return requestCallback
+                    .apply(clientRequest)
+                    .then(clientResponse);
+        });
+    }
+
+    private static class LoopbackClientHttpRequest extends AbstractClientHttpRequest {
+        private final HttpMethod method;
+        private final URI uri;
+        private final String contextPath;
+        private final DataBufferFactory bufferFactory;
+        private final Function<ServerHttpRequest, Mono<Void>> writeHandler;
+        private HttpHeaders serverHeaders;
+        private MultiValueMap<String, HttpCookie> serverCookies;
+
+        LoopbackClientHttpRequest(HttpMethod method, URI uri, String contextPath, DataBufferFactory bufferFactory, Function<ServerHttpRequest, Mono<Void>> writeHandler) {
+            this.method = method;
+            this.uri = uri;
+            this.contextPath = contextPath;
+            this.bufferFactory = bufferFactory;
+            this.writeHandler = writeHandler;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        public DataBufferFactory bufferFactory() {
+            return bufferFactory;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return doCommit(() -> Mono.defer(() -> writeHandler.apply(new LoopbackServerHttpRequest(this, Flux.from(body)))));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).concatMap(Flux::from));
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return writeWith(Flux.empty());
+        }
+
+        @Override
+        protected void applyHeaders() {
+            serverHeaders = new HttpHeaders();
+            serverHeaders.putAll(getHeaders());
+        }
+
+        @Override
+        protected void applyCookies() {
+            serverCookies = new LinkedMultiValueMap<>(getCookies());
+        }
+    }
+
+    private static class LoopbackServerHttpRequest implements ServerHttpRequest {
+        private final HttpMethod method;
+        private final URI uri;
+        private final String contextPath;
+        private final HttpHeaders headers;
+        private final MultiValueMap<String, HttpCookie> cookies;
+        private final Flux<DataBuffer> body;
+
+        LoopbackServerHttpRequest(LoopbackClientHttpRequest clientRequest, Flux<DataBuffer> body) {
+            this.method = clientRequest.method;
+            this.uri = clientRequest.uri;
+            this.contextPath = clientRequest.contextPath;
+            this.headers = HttpHeaders.readOnlyHttpHeaders(clientRequest.serverHeaders);
+            this.cookies = clientRequest.serverCookies;
+            this.body = body;
+        }
+
+        @Override
+        public RequestPath getPath() {
+            return RequestPath.parse(uri, contextPath);
+        }
+
+        @Override
+        public MultiValueMap<String, String> getQueryParams() {
+            MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<>();
+            UriComponentsBuilder.fromUri(uri).build().getQueryParams().forEach((name, values) -> values
+                    .forEach(value -> queryParams.add(
+                            UriUtils.decode(name, StandardCharsets.UTF_8),
+                            value == null ? null : UriUtils.decode(value, StandardCharsets.UTF_8))));
+            return queryParams;
+        }
+
+        @Override
+        public MultiValueMap<String, HttpCookie> getCookies() {
+            return cookies;
+        }
+
+        @Override
+        public String getMethodValue() {
+            return method.name();
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return body;
+        }
+    }
+
+    private static class LoopbackServerHttpResponse extends AbstractServerHttpResponse {
+        private final MonoProcessor<ClientHttpResponse> clientResponse;
+        private final MonoProcessor<Void> handled;
+
+        LoopbackServerHttpResponse(DataBufferFactory bufferFactory, MonoProcessor<ClientHttpResponse> clientResponse, MonoProcessor<Void> handled) {
+            super(bufferFactory);
+            this.clientResponse = clientResponse;
+            this.handled = handled;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T getNativeResponse() {
+            return (T) this;
+        }
+
+        @Override
+        protected Mono<Void> writeWithInternal(Publisher<? extends DataBuffer> body) {
+            clientResponse.onNext(new LoopbackClientHttpResponse(this, Flux.<DataBuffer>from(body).concatWith(handled.cast(DataBuffer.class))));
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> writeAndFlushWithInternal(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWithInternal(Flux.from(body).concatMap(Flux::from));
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return doCommit(() -> Mono.defer(() -> writeWithInternal(Flux.empty())));
+        }
+
+        @Override
+        protected void applyStatusCode() {
+        }
+
+        @Override
+        protected void applyHeaders() {
+        }
+
+        @Override
+        protected void applyCookies() {
+        }
+    }
+
+    private static class LoopbackClientHttpResponse implements ClientHttpResponse {
+        private final HttpStatus status;
+        private final HttpHeaders headers;
+        private final MultiValueMap<String, ResponseCookie> cookies;
+        private final Flux<DataBuffer> body;
+
+        LoopbackClientHttpResponse(LoopbackServerHttpResponse serverResponse, Flux<DataBuffer> body) {
+            this.status = serverResponse.getStatusCode() == null ? HttpStatus.OK : serverResponse.getStatusCode();
+            this.headers = HttpHeaders.readOnlyHttpHeaders(serverResponse.getHeaders());
+            this.cookies = serverResponse.getCookies();
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatus getStatusCode() {
+            return status;
+        }
+
+        @Override
+        public MultiValueMap<String, ResponseCookie> getCookies() {
+            return cookies;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return body;
+        }
+    }
+}
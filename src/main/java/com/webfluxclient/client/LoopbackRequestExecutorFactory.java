@@ -0,0 +1,53 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.ClientOptions;
+import com.webfluxclient.codec.ExtendedClientCodecConfigurer;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+import java.net.URI;
+
+/**
+ * Build {@link RequestExecutor}s sending the requests to a handler of the same JVM instead of the network.
+ * The codecs, filters and response processing of the client are unchanged,
+ * which isolates their cost from the transport in benchmarks and keeps tests fast.
+ */
+public class LoopbackRequestExecutorFactory implements RequestExecutorFactory {
+    private final ClientHttpConnector clientHttpConnector;
+
+    private LoopbackRequestExecutorFactory(HttpHandler httpHandler) {
+        this.clientHttpConnector = new LoopbackClientHttpConnector(httpHandler, "");
+    }
+
+    public static LoopbackRequestExecutorFactory of(HttpHandler httpHandler) {
+        Assert.notNull(httpHandler, "'httpHandler' Can't be null");
+
+        return new LoopbackRequestExecutorFactory(httpHandler);
+    }
+
+    public static LoopbackRequestExecutorFactory of(RouterFunction<?> routerFunction) {
+        Assert.notNull(routerFunction, "'routerFunction' Can't be null");
+
+        return of(RouterFunctions.toHttpHandler(routerFunction));
+    }
+
+    public static LoopbackRequestExecutorFactory of(HandlerFunction<?> handlerFunction) {
+        Assert.notNull(handlerFunction, "'handlerFunction' Can't be null");
+
+        return of(RouterFunctions.route(RequestPredicates.all(), handlerFunction));
+    }
+
+    @Override
+    public RequestExecutor build(ExtendedClientCodecConfigurer codecConfigurer, ExchangeFilterFunction exchangeFilterFunction, ClientOptions options, URI uri) {
+        return DefaultRequestExecutorFactory.requestExecutor(
+                codecConfigurer,
+                exchangeFilterFunction,
+                options.getExchangeTimingListener() == null ? clientHttpConnector : new TimingClientHttpConnector(clientHttpConnector));
+    }
+}
@@ -0,0 +1,51 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.DecodingOffload;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.http.client.reactive.ClientHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Deliver the body to the decoder on the {@link DecodingOffload} scheduler when it is larger than the threshold.
+ * Without a {@code Content-Length}, an aggregated body is collected on the I/O thread and offloaded once its size is known,
+ * a streamed body is always offloaded.
+ */
+class OffloadingClientHttpResponse extends ClientHttpResponseDecorator {
+    private final DecodingOffload decodingOffload;
+    private final boolean aggregated;
+
+    OffloadingClientHttpResponse(ClientHttpResponse delegate, DecodingOffload decodingOffload, boolean aggregated) {
+        super(delegate);
+        this.decodingOffload = decodingOffload;
+        this.aggregated = aggregated;
+    }
+
+    @Override
+    public Flux<DataBuffer> getBody() {
+        long contentLength = getHeaders().getContentLength();
+        if (contentLength >= 0) {
+            return contentLength > decodingOffload.getThresholdBytes() ?
+                    super.getBody().publishOn(decodingOffload.getScheduler()) :
+                    super.getBody();
+        }
+        if (!aggregated) {
+            return super.getBody().publishOn(decodingOffload.getScheduler());
+        }
+        return super.getBody()
+                .collectList()
+                .flatMapMany(dataBuffers -> size(dataBuffers) > decodingOffload.getThresholdBytes() ?
+                        Flux.fromIterable(dataBuffers).subscribeOn(decodingOffload.getScheduler()) :
+                        Flux.fromIterable(dataBuffers));
+    }
+
+    private static long size(List<DataBuffer> dataBuffers) {
+        long size = 0;
+        for (DataBuffer dataBuffer : dataBuffers) {
+            size += dataBuffer.readableByteCount();
+        }
+        return size;
+    }
+}
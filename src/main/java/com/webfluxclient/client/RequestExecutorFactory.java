@@ -1,9 +1,14 @@
 package com.webfluxclient.client;
 
+import com.webfluxclient.ClientOptions;
 import com.webfluxclient.codec.ExtendedClientCodecConfigurer;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 
+import java.net.URI;
+
 public interface RequestExecutorFactory {
     RequestExecutor build(ExtendedClientCodecConfigurer codecConfigurer,
-                          ExchangeFilterFunction exchangeFilterFunction);
-}
\ No newline at end of file
+                          ExchangeFilterFunction exchangeFilterFunction,
+                          ClientOptions options,
+                          URI uri);
+}
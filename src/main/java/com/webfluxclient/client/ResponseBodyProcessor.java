@@ -1,10 +1,15 @@
 package com.webfluxclient.client;
 
 
+import com.webfluxclient.DecodingOffload;
 import org.springframework.core.ResolvableType;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import reactor.core.publisher.Mono;
 
+import java.nio.file.Path;
+
 public interface ResponseBodyProcessor {
-    Object process(Mono<ClientResponse> monoResponse, ResolvableType bodyType);
+    Object process(Mono<ClientResponse> monoResponse, ResolvableType bodyType, DecodingOffload decodingOffload);
+
+    Mono<Path> download(Mono<ClientResponse> monoResponse, Path destination);
 }
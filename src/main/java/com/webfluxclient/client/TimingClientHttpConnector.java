@@ -0,0 +1,60 @@
+package com.webfluxclient.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.http.client.reactive.ClientHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.function.Function;
+
+/**
+ * Record the transport phases on the {@link ExchangeTimings} found in the subscriber context.
+ * The exchange completes when the response body terminates.
+ */
+class TimingClientHttpConnector implements ClientHttpConnector {
+    private final ClientHttpConnector delegate;
+
+    TimingClientHttpConnector(ClientHttpConnector delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Mono<ClientHttpResponse> connect(HttpMethod method, URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+        return Mono.subscriberContext().flatMap(context -> {
+            ExchangeTimings exchangeTimings = context.getOrDefault(ExchangeTimings.class, null);
+            if (exchangeTimings == null) {
+                return delegate.connect(method, uri, requestCallback);
+            }
+            return delegate
+                    .connect(method, uri, clientHttpRequest -> {
+                        exchangeTimings.connected();
+                        return requestCallback
+                                .apply(clientHttpRequest)
+                                .doOnSuccess(aVoid -> exchangeTimings.requestWritten());
+                    })
+                    .map(clientHttpResponse -> {
+                        exchangeTimings.responseReceived();
+                        return new TimingClientHttpResponse(clientHttpResponse, exchangeTimings);
+                    });
+        });
+    }
+
+    private static class TimingClientHttpResponse extends ClientHttpResponseDecorator {
+        private final ExchangeTimings exchangeTimings;
+
+        TimingClientHttpResponse(ClientHttpResponse delegate, ExchangeTimings exchangeTimings) {
+            super(delegate);
+            this.exchangeTimings = exchangeTimings;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return super.getBody().doFinally(signalType -> exchangeTimings.complete());
+        }
+    }
+}
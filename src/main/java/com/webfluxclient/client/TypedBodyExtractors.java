@@ -0,0 +1,37 @@
+package com.webfluxclient.client;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpInputMessage;
+import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.web.reactive.function.BodyExtractor;
+import org.springframework.web.reactive.function.UnsupportedMediaTypeException;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@link BodyExtractor}s keeping the generics of the element type, so that a {@code Flux<ServerSentEvent<T>>}
+ * is read by the server-sent event reader with {@code T} as the type of the data.
+ */
+class TypedBodyExtractors {
+
+    @SuppressWarnings("unchecked")
+    static <T> BodyExtractor<Flux<T>, ReactiveHttpInputMessage> toFlux(ResolvableType elementType) {
+        return (inputMessage, context) -> {
+            MediaType contentType = inputMessage.getHeaders().getContentType();
+            MediaType mediaType = contentType == null ? MediaType.APPLICATION_OCTET_STREAM : contentType;
+            List<HttpMessageReader<?>> messageReaders = context.messageReaders();
+            return messageReaders
+                    .stream()
+                    .filter(messageReader -> messageReader.canRead(elementType, mediaType))
+                    .findFirst()
+                    .map(messageReader -> ((HttpMessageReader<T>) messageReader).read(elementType, inputMessage, context.hints()))
+                    .orElseGet(() -> Flux.error(new UnsupportedMediaTypeException(mediaType, messageReaders
+                            .stream()
+                            .flatMap(messageReader -> messageReader.getReadableMediaTypes().stream())
+                            .collect(Collectors.toList()))));
+        };
+    }
+}
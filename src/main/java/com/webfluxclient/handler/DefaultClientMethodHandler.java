@@ -1,32 +1,85 @@
 package com.webfluxclient.handler;
 
+import com.webfluxclient.DecodingOffload;
+import com.webfluxclient.RateLimiter;
 import com.webfluxclient.client.RequestExecutor;
 import com.webfluxclient.client.ResponseBodyProcessor;
 import com.webfluxclient.metadata.MethodMetadata;
+import com.webfluxclient.metrics.MethodMetrics;
 import com.webfluxclient.metadata.request.Request;
+import org.springframework.core.ResolvableType;
 import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.file.Path;
+
+import static com.webfluxclient.utils.Types.isMono;
+
 public class DefaultClientMethodHandler implements ClientMethodHandler {
 
     private MethodMetadata methodMetadata;
     private RequestExecutor requestExecutor;
     private ResponseBodyProcessor responseBodyProcessor;
+    private LoadShedder loadShedder;
+    private MethodMetrics methodMetrics;
+    private DecodingOffload decodingOffload;
+    private RangedDownloader rangedDownloader;
     DefaultClientMethodHandler(MethodMetadata methodMetadata,
                                RequestExecutor requestExecutor,
-                               ResponseBodyProcessor responseBodyProcessor) {
+                               ResponseBodyProcessor responseBodyProcessor,
+                               LoadShedder loadShedder,
+                               MethodMetrics methodMetrics,
+                               DecodingOffload decodingOffload) {
         this.methodMetadata = methodMetadata;
         this.requestExecutor = requestExecutor;
         this.responseBodyProcessor = responseBodyProcessor;
+        this.loadShedder = loadShedder;
+        this.methodMetrics = methodMetrics;
+        this.decodingOffload = decodingOffload;
+        this.rangedDownloader = methodMetadata.getDownloadSplitting() == null ?
+                null :
+                new RangedDownloader(this::execute, responseBodyProcessor, methodMetadata.getDownloadSplitting());
     }
 
     @Override
     public Object invoke(Object[] args) {
         Request request = methodMetadata.getRequestTemplate().apply(args);
+        Integer downloadIndex = methodMetadata.getDownloadIndex();
+        if (downloadIndex != null && rangedDownloader != null) {
+            return download(rangedDownloader.download(request, (Path) args[downloadIndex]));
+        }
 
-        Mono<ClientResponse> execute = requestExecutor.execute(request);
+        Mono<ClientResponse> execute = loadShedder == null ?
+                execute(request) :
+                loadShedder.execute(request, this::execute);
+        if (methodMetrics != null) {
+            execute = methodMetrics.record(execute);
+        }
     
-        return responseBodyProcessor.process(execute, methodMetadata.getResponseBodyType());
+        if (downloadIndex != null) {
+            return download(responseBodyProcessor.download(execute, (Path) args[downloadIndex]));
+        }
+
+        Object body = responseBodyProcessor.process(execute, methodMetadata.getResponseBodyType(), decodingOffload);
+        Integer prefetch = methodMetadata.getPrefetch();
+        return prefetch != null && body instanceof Flux ?
+                ((Flux<?>) body).limitRate(prefetch) :
+                body;
     }
 
+    private Object download(Mono<Path> download) {
+        ResolvableType returnType = methodMetadata.getResponseBodyType();
+        if (!isMono(returnType)) {
+            return download.block();
+        }
+        return Void.class == returnType.getGeneric(0).resolve() ? download.then() : download;
+    }
+
+    private Mono<ClientResponse> execute(Request request) {
+        RateLimiter rateLimiter = methodMetadata.getRateLimiter();
+        return rateLimiter == null ?
+                requestExecutor.execute(request) :
+                rateLimiter.limit(() -> requestExecutor.execute(request));
+    }
 }
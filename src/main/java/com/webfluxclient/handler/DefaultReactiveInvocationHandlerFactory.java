@@ -1,5 +1,8 @@
 package com.webfluxclient.handler;
 
+import com.webfluxclient.ClientOptions;
+import com.webfluxclient.DecodingOffload;
+import com.webfluxclient.LoadShedding;
 import com.webfluxclient.LogLevel;
 import com.webfluxclient.Logger;
 import com.webfluxclient.RequestProcessor;
@@ -14,6 +17,8 @@ import com.webfluxclient.client.ResponseBodyProcessor;
 import com.webfluxclient.codec.ExtendedClientCodecConfigurer;
 import com.webfluxclient.metadata.MethodMetadata;
 import com.webfluxclient.metadata.MethodMetadataFactory;
+import com.webfluxclient.metrics.ClientMetrics;
+import org.springframework.util.Assert;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 
 import java.lang.reflect.InvocationHandler;
@@ -37,15 +42,39 @@ public class DefaultReactiveInvocationHandlerFactory implements ReactiveInvocati
     }
 
     @Override
-    public InvocationHandler build(ExtendedClientCodecConfigurer codecConfigurer, List<RequestProcessor> requestProcessors, List<ResponseProcessor> responseProcessors, Logger logger, LogLevel logLevel, Class<?> target, URI uri) {
-        ExchangeFilterFunction exchangeFilterFunction = exchangeFilterFunctionFactory.build(requestProcessors, responseProcessors, logger, logLevel);
-        RequestExecutor requestExecutor = requestExecutorFactory.build(codecConfigurer, exchangeFilterFunction);
+    public InvocationHandler build(ExtendedClientCodecConfigurer codecConfigurer, List<RequestProcessor> requestProcessors, List<ResponseProcessor> responseProcessors, Logger logger, LogLevel logLevel, ClientOptions options, Class<?> target, URI uri) {
+        ExchangeFilterFunction exchangeFilterFunction = exchangeFilterFunctionFactory.build(requestProcessors, responseProcessors, logger, logLevel, options);
+        RequestExecutor requestExecutor = (options.getRequestExecutorFactory() == null ? this.requestExecutorFactory : options.getRequestExecutorFactory()).build(codecConfigurer, exchangeFilterFunction, options, uri);
+        LoadShedding loadShedding = options.getLoadShedding();
+        ClientMetrics clientMetrics = options.getClientMetrics();
         ResponseBodyProcessor responseBodyProcessor = new DefaultResponseBodyProcessor(codecConfigurer.getErrorReaders());
 
         Map<Method, ClientMethodHandler> invocationDispatcher = methodMetadataFactory.build(target, uri)
                 .stream()
-                .collect(toMap(MethodMetadata::getTargetMethod, methodMetadata -> new DefaultClientMethodHandler(methodMetadata, requestExecutor, responseBodyProcessor)));
+                .peek(methodMetadata -> validate(methodMetadata, options))
+                .collect(toMap(MethodMetadata::getTargetMethod, methodMetadata -> new DefaultClientMethodHandler(
+                        methodMetadata,
+                        requestExecutor,
+                        responseBodyProcessor,
+                        loadShedding == null ? null : loadShedding.loadShedder(methodMetadata.getTargetMethod()),
+                        clientMetrics == null ? null : clientMetrics.methodMetrics(methodMetadata.getTargetMethod()),
+                        decodingOffload(methodMetadata, options.getDecodingOffload()))));
 
         return new DefaultReactiveInvocationHandler(invocationDispatcher);
     }
+
+    private void validate(MethodMetadata methodMetadata, ClientOptions options) {
+        Assert.isTrue(methodMetadata.getCompressionThreshold() == null || options.getCompression() != null,
+                () -> "Invalid method " + methodMetadata.getTargetMethod() + ": @Compress requires a Compression on the client");
+    }
+
+    private DecodingOffload decodingOffload(MethodMetadata methodMetadata, DecodingOffload decodingOffload) {
+        Long decodingThreshold = methodMetadata.getDecodingThreshold();
+        if (decodingThreshold == null) {
+            return decodingOffload;
+        }
+        return decodingOffload == null ?
+                DecodingOffload.parallel(decodingThreshold) :
+                decodingOffload.withThreshold(decodingThreshold);
+    }
 }
@@ -0,0 +1,57 @@
+package com.webfluxclient.handler;
+
+import com.webfluxclient.metadata.request.Request;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * {@link Request} notifying a listener when the connection is acquired and the body starts being written.
+ */
+class DispatchListenerRequest implements Request {
+    private Request delegate;
+    private Runnable dispatchListener;
+
+    DispatchListenerRequest(Request delegate, Runnable dispatchListener) {
+        this.delegate = delegate;
+        this.dispatchListener = dispatchListener;
+    }
+
+    @Override
+    public HttpMethod httpMethod() {
+        return delegate.httpMethod();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return delegate.headers();
+    }
+
+    @Override
+    public Map<String, Object> variables() {
+        return delegate.variables();
+    }
+
+    @Override
+    public BodyInserter<?, ? super ClientHttpRequest> bodyInserter() {
+        BodyInserter<?, ? super ClientHttpRequest> bodyInserter = delegate.bodyInserter();
+        return (BodyInserter<Object, ClientHttpRequest>) (outputMessage, context) -> {
+            dispatchListener.run();
+            return bodyInserter.insert(outputMessage, context);
+        };
+    }
+
+    @Override
+    public Map<String, Object> attributes() {
+        return delegate.attributes();
+    }
+
+    @Override
+    public URI expand() {
+        return delegate.expand();
+    }
+}
@@ -0,0 +1,125 @@
+package com.webfluxclient.handler;
+
+import com.webfluxclient.LoadSheddingException;
+import com.webfluxclient.metadata.request.Request;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * CoDel state of a single client method.
+ * The sojourn time of a call is the time between its subscription and the moment its request
+ * starts being written, which covers rate limiting and waiting for a pooled connection.
+ */
+public class LoadShedder {
+    private final Method method;
+    private final long targetNanos;
+    private final long intervalNanos;
+    private final AtomicLong intervalStart;
+    private final AtomicLong minSojournNanos;
+    private final AtomicInteger queued;
+    private final LongAdder rejected;
+    private volatile boolean overloaded;
+
+    public LoadShedder(Method method, long targetNanos, long intervalNanos) {
+        this.method = method;
+        this.targetNanos = targetNanos;
+        this.intervalNanos = intervalNanos;
+        this.intervalStart = new AtomicLong(System.nanoTime());
+        this.minSojournNanos = new AtomicLong(Long.MAX_VALUE);
+        this.queued = new AtomicInteger();
+        this.rejected = new LongAdder();
+    }
+
+    public Mono<ClientResponse> execute(Request request, Function<Request, Mono<ClientResponse>> exchange) {
+        return Mono.defer(() -> {
+            long now = System.nanoTime();
+            if (shouldShed(now)) {
+                rejected.increment();
+                return Mono.error(new LoadSheddingException(method));
+            }
+            onEnqueue();
+            QueuedCall queuedCall = new QueuedCall(now);
+            return exchange
+                    .apply(new DispatchListenerRequest(request, queuedCall))
+                    .doFinally(signalType -> queuedCall.release());
+        });
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    boolean shouldShed(long now) {
+        rollInterval(now);
+        return overloaded;
+    }
+
+    void onEnqueue() {
+        queued.incrementAndGet();
+    }
+
+    int getQueuedCount() {
+        return queued.get();
+    }
+
+    void onDispatch(long sojournNanos, long now) {
+        queued.decrementAndGet();
+        long min;
+        while (sojournNanos < (min = minSojournNanos.get())) {
+            if (minSojournNanos.compareAndSet(min, sojournNanos)) {
+                break;
+            }
+        }
+        if (sojournNanos < targetNanos) {
+            overloaded = false;
+        }
+        rollInterval(now);
+    }
+
+    private void rollInterval(long now) {
+        long start = intervalStart.get();
+        if (now - start < intervalNanos || !intervalStart.compareAndSet(start, now)) {
+            return;
+        }
+        long min = minSojournNanos.getAndSet(Long.MAX_VALUE);
+        if (min != Long.MAX_VALUE) {
+            overloaded = min > targetNanos;
+        }
+        else if (queued.get() == 0) {
+            overloaded = false;
+        }
+    }
+
+    private class QueuedCall extends AtomicBoolean implements Runnable {
+        private final long enqueuedNanos;
+
+        private QueuedCall(long enqueuedNanos) {
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        @Override
+        public void run() {
+            if (compareAndSet(false, true)) {
+                long now = System.nanoTime();
+                onDispatch(now - enqueuedNanos, now);
+            }
+        }
+
+        private void release() {
+            if (compareAndSet(false, true)) {
+                queued.decrementAndGet();
+            }
+        }
+    }
+}
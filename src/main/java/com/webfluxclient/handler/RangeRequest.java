@@ -0,0 +1,72 @@
+package com.webfluxclient.handler;
+
+import com.webfluxclient.metadata.request.Request;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.BodyInserters;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A bodiless copy of a download request, probing the resource with {@code HEAD} or fetching one of its byte ranges.
+ */
+class RangeRequest implements Request {
+    private final Request request;
+    private final HttpMethod httpMethod;
+    private final HttpHeaders httpHeaders;
+
+    private RangeRequest(Request request, HttpMethod httpMethod) {
+        this.request = request;
+        this.httpMethod = httpMethod;
+        this.httpHeaders = new HttpHeaders();
+        this.httpHeaders.putAll(request.headers());
+    }
+
+    static RangeRequest head(Request request) {
+        return new RangeRequest(request, HttpMethod.HEAD);
+    }
+
+    static RangeRequest range(Request request, long start, long end, String validator) {
+        RangeRequest rangeRequest = new RangeRequest(request, HttpMethod.GET);
+        rangeRequest.httpHeaders.setRange(Collections.singletonList(HttpRange.createByteRange(start, end)));
+        if (validator != null) {
+            rangeRequest.httpHeaders.set(HttpHeaders.IF_RANGE, validator);
+        }
+        return rangeRequest;
+    }
+
+    @Override
+    public HttpMethod httpMethod() {
+        return httpMethod;
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return httpHeaders;
+    }
+
+    @Override
+    public Map<String, Object> variables() {
+        return request.variables();
+    }
+
+    @Override
+    public BodyInserter<?, ? super ClientHttpRequest> bodyInserter() {
+        return BodyInserters.empty();
+    }
+
+    @Override
+    public Map<String, Object> attributes() {
+        return request.attributes();
+    }
+
+    @Override
+    public URI expand() {
+        return request.expand();
+    }
+}
@@ -0,0 +1,208 @@
+package com.webfluxclient.handler;
+
+import com.webfluxclient.EntityChangedException;
+import com.webfluxclient.client.ResponseBodyProcessor;
+import com.webfluxclient.codec.HttpClientException;
+import com.webfluxclient.metadata.DownloadSplitting;
+import com.webfluxclient.metadata.request.Request;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Download a body as concurrent byte ranges written at their offset in the destination file.
+ * The completed ranges are recorded in a {@code .ranges} file next to the destination, removed once the download
+ * succeeds, so that a failed download resumes with the missing ranges when the size and the validator didn't change.
+ * The validator is the strong entity tag of the body, or else its last modification date, and is sent as
+ * {@code If-Range} with every range. A body with neither is downloaded again from scratch.
+ */
+class RangedDownloader {
+    private static final ResolvableType MONO_VOID_TYPE = ResolvableType.forClassWithGenerics(Mono.class, Void.class);
+
+    private final Function<Request, Mono<ClientResponse>> exchange;
+    private final ResponseBodyProcessor responseBodyProcessor;
+    private final DownloadSplitting downloadSplitting;
+
+    RangedDownloader(Function<Request, Mono<ClientResponse>> exchange, ResponseBodyProcessor responseBodyProcessor, DownloadSplitting downloadSplitting) {
+        this.exchange = exchange;
+        this.responseBodyProcessor = responseBodyProcessor;
+        this.downloadSplitting = downloadSplitting;
+    }
+
+    Mono<Path> download(Request request, Path destination) {
+        return exchange.apply(RangeRequest.head(request))
+                .flatMap(response -> response.body(BodyExtractors.toDataBuffers())
+                        .doOnNext(DataBufferUtils::release)
+                        .then(Mono.just(response.headers().asHttpHeaders())))
+                .flatMap(headers -> {
+                    long length = headers.getContentLength();
+                    if (!isRangeable(headers) || downloadSplitting.partCount(length) < 2) {
+                        return responseBodyProcessor.download(exchange.apply(request), destination);
+                    }
+                    return downloadRanges(request, destination, length, validator(headers));
+                });
+    }
+
+    /**
+     * @return the strong entity tag, or else the last modification date, identifying the version of the body,
+     * {@code null} when there is neither
+     */
+    private static String validator(HttpHeaders headers) {
+        String entityTag = headers.getETag();
+        if (entityTag != null && !entityTag.startsWith("W/")) {
+            return entityTag;
+        }
+        return headers.getFirst(HttpHeaders.LAST_MODIFIED);
+    }
+
+    private static boolean isRangeable(HttpHeaders headers) {
+        return headers.getContentLength() > 0 && "bytes".equalsIgnoreCase(headers.getFirst(HttpHeaders.ACCEPT_RANGES));
+    }
+
+    private Mono<Path> downloadRanges(Request request, Path destination, long length, String validator) {
+        List<long[]> ranges = split(length);
+        return Mono
+                .fromCallable(() -> Progress.open(destination, length, validator))
+                .flatMap(progress -> Mono.using(
+                        () -> AsynchronousFileChannel.open(destination, StandardOpenOption.WRITE, StandardOpenOption.CREATE),
+                        channel -> Flux.fromIterable(ranges)
+                                .filter(range -> !progress.isCompleted(range[0]))
+                                .flatMap(range -> downloadRange(request, channel, range[0], range[1], validator)
+                                        .then(Mono.fromRunnable(() -> progress.complete(range[0]))), ranges.size())
+                                .then(Mono.fromCallable(() -> {
+                                    progress.delete();
+                                    return destination;
+                                })),
+                        RangedDownloader::close));
+    }
+
+    private List<long[]> split(long length) {
+        int partCount = downloadSplitting.partCount(length);
+        long partSize = length / partCount;
+        List<long[]> ranges = new ArrayList<>(partCount);
+        for (int i = 0; i < partCount; i++) {
+            long start = i * partSize;
+            ranges.add(new long[]{start, i == partCount - 1 ? length - 1 : start + partSize - 1});
+        }
+        return ranges;
+    }
+
+    private Mono<Void> downloadRange(Request request, AsynchronousFileChannel channel, long start, long end, String validator) {
+        AtomicLong written = new AtomicLong();
+        return Mono
+                .defer(() -> {
+                    long position = start + written.get();
+                    return exchange.apply(RangeRequest.range(request, position, end, validator))
+                            .flatMap(response -> write(response, request.expand(), channel, position))
+                            .doOnNext(written::addAndGet)
+                            .then(Mono.defer(() -> start + written.get() > end ?
+                                    Mono.<Void>empty() :
+                                    Mono.error(new IOException("Range " + start + "-" + end + " ended after " + written.get() + " bytes"))));
+                })
+                .retry(downloadSplitting.getMaxRetries(), throwable -> !(throwable instanceof HttpClientException || throwable instanceof EntityChangedException));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Flux<Long> write(ClientResponse response, URI uri, AsynchronousFileChannel channel, long position) {
+        if (response.statusCode().isError()) {
+            return ((Mono<Void>) responseBodyProcessor.process(Mono.just(response), MONO_VOID_TYPE, null)).thenMany(Flux.empty());
+        }
+        Flux<DataBuffer> body = response.body(BodyExtractors.toDataBuffers());
+        if (response.statusCode() != HttpStatus.PARTIAL_CONTENT) {
+            return body.doOnNext(DataBufferUtils::release)
+                    .thenMany(Flux.error(new EntityChangedException(uri, response.statusCode().value())));
+        }
+        return DataBufferUtils.write(body, channel, position)
+                .map(dataBuffer -> {
+                    long count = dataBuffer.readableByteCount();
+                    DataBufferUtils.release(dataBuffer);
+                    return count;
+                });
+    }
+
+    private static void close(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        }
+        catch (IOException e) {
+            // the written ranges are already recorded
+        }
+    }
+
+    private static class Progress {
+        private final Path path;
+        private final Set<Long> completed;
+
+        private Progress(Path path, Set<Long> completed) {
+            this.path = path;
+            this.completed = completed;
+        }
+
+        static Progress open(Path destination, long length, String validator) throws IOException {
+            Path path = destination.resolveSibling(destination.getFileName() + ".ranges");
+            if (validator == null) {
+                Files.deleteIfExists(path);
+                Files.deleteIfExists(destination);
+                return new Progress(null, new HashSet<>());
+            }
+            String header = length + " " + validator;
+            Set<Long> completed = new HashSet<>();
+            if (Files.exists(path) && Files.exists(destination)) {
+                List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+                if (!lines.isEmpty() && lines.get(0).equals(header)) {
+                    for (String line : lines.subList(1, lines.size())) {
+                        completed.add(Long.parseLong(line));
+                    }
+                }
+            }
+            if (completed.isEmpty()) {
+                Files.deleteIfExists(destination);
+                Files.write(path, (header + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            return new Progress(path, completed);
+        }
+
+        synchronized boolean isCompleted(long start) {
+            return completed.contains(start);
+        }
+
+        synchronized void complete(long start) {
+            completed.add(start);
+            if (path == null) {
+                return;
+            }
+            try {
+                Files.write(path, (start + "\n").getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            }
+            catch (IOException e) {
+                // the range is downloaded again by a resumed download
+            }
+        }
+
+        void delete() throws IOException {
+            if (path != null) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.webfluxclient.handler;
 
+import com.webfluxclient.ClientOptions;
 import com.webfluxclient.LogLevel;
 import com.webfluxclient.Logger;
 import com.webfluxclient.RequestProcessor;
@@ -17,6 +18,7 @@ public interface ReactiveInvocationHandlerFactory {
             List<ResponseProcessor> responseProcessors,
             Logger logger,
             LogLevel logLevel,
+            ClientOptions options,
             Class<?> target,
             URI uri);
 }
@@ -0,0 +1,51 @@
+package com.webfluxclient.metadata;
+
+import org.springframework.util.Assert;
+
+/**
+ * How the body of a ranged download is split across concurrent requests.
+ */
+public class DownloadSplitting {
+    private final int parts;
+    private final long minPartBytes;
+    private final int maxRetries;
+
+    private DownloadSplitting(int parts, long minPartBytes, int maxRetries) {
+        this.parts = parts;
+        this.minPartBytes = minPartBytes;
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * @param parts The maximum number of ranges fetched concurrently.
+     * @param minPartBytes The minimum size in bytes of a range.
+     * @param maxRetries The number of times a range is retried.
+     * @return the splitting
+     */
+    public static DownloadSplitting of(int parts, long minPartBytes, int maxRetries) {
+        Assert.isTrue(parts > 0, "'parts' must be greater than 0");
+        Assert.isTrue(minPartBytes > 0, "'minPartBytes' must be greater than 0");
+        Assert.isTrue(maxRetries >= 0, "'maxRetries' can't be negative");
+        return new DownloadSplitting(parts, minPartBytes, maxRetries);
+    }
+
+    public int getParts() {
+        return parts;
+    }
+
+    public long getMinPartBytes() {
+        return minPartBytes;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @param length The size of the body.
+     * @return the number of ranges to fetch
+     */
+    public int partCount(long length) {
+        return (int) Math.max(1, Math.min(parts, length / minPartBytes));
+    }
+}
@@ -1,8 +1,11 @@
 package com.webfluxclient.metadata;
 
+import com.webfluxclient.RateLimiter;
 import com.webfluxclient.metadata.request.RequestHeader;
 import com.webfluxclient.metadata.request.RequestHeaders;
 import com.webfluxclient.metadata.request.RequestTemplate;
+import com.webfluxclient.metadata.request.WriteCoalescing;
+import com.webfluxclient.utils.DomainSockets;
 import lombok.Getter;
 import org.springframework.core.ResolvableType;
 import org.springframework.http.HttpMethod;
@@ -14,28 +17,53 @@ import org.springframework.web.util.UriBuilder;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.net.URI;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 @Getter
 public class MethodMetadata {
+    /**
+     * Name of the {@link org.springframework.web.reactive.function.client.ClientRequest} attribute holding the {@code MethodMetadata} of the request.
+     */
+    public static final String METHOD_METADATA_ATTRIBUTE = MethodMetadata.class.getName();
+
+    private Class<?> targetType;
     private Method targetMethod;
     private ResolvableType responseBodyType;
     private RequestTemplate requestTemplate;
+    private RateLimiter rateLimiter;
+    private Long decodingThreshold;
+    private Integer prefetch;
+    private Integer downloadIndex;
+    private DownloadSplitting downloadSplitting;
+    private Long compressionThreshold;
     
     private MethodMetadata(Builder builder) {
+        targetType = builder.targetType;
         targetMethod = builder.targetMethod;
         responseBodyType = builder.returnType;
+        rateLimiter = builder.rateLimiter;
+        decodingThreshold = builder.decodingThreshold;
+        prefetch = builder.prefetch;
+        downloadIndex = builder.downloadIndex;
+        downloadSplitting = builder.downloadSplitting;
+        compressionThreshold = builder.compressionThreshold;
         requestTemplate = new RequestTemplate(
                 builder.uriBuilder,
                 builder.httpMethod,
                 new RequestHeaders(builder.headers, builder.headerIndexToName),
                 builder.bodyIndex,
                 builder.bodyType,
-                builder.variableIndexToName);
+                builder.writeCoalescing,
+                builder.variableIndexToName,
+                Collections.singletonMap(METHOD_METADATA_ATTRIBUTE, this));
     }
     
     public static Builder newBuilder(URI baseUri) {
+        if (DomainSockets.isDomainSocket(baseUri)) {
+            return new Builder("http", DomainSockets.AUTHORITY);
+        }
         return new Builder(baseUri.getScheme(), baseUri.getAuthority());
     }
     
@@ -49,10 +77,18 @@ public class MethodMetadata {
         private Map<String, RequestHeader> headers;
         private Map<Integer, String> headerIndexToName;
         private HttpMethod httpMethod;
+        private Class<?> targetType;
         private Method targetMethod;
         private Integer bodyIndex;
         private ResolvableType returnType;
         private ResolvableType bodyType;
+        private RateLimiter rateLimiter;
+        private Long decodingThreshold;
+        private Integer prefetch;
+        private WriteCoalescing writeCoalescing;
+        private Integer downloadIndex;
+        private DownloadSplitting downloadSplitting;
+        private Long compressionThreshold;
         
         private Builder() {
             variableIndexToName = new LinkedMultiValueMap<>();
@@ -77,7 +113,12 @@ public class MethodMetadata {
             headers.putAll(other.getRequestTemplate().getRequestHeaders().getHeaders());
             headerIndexToName.putAll(other.getRequestTemplate().getRequestHeaders().getIndexToName());
             httpMethod = other.getRequestTemplate().getHttpMethod();
+            targetType = other.getTargetType();
             targetMethod = other.getTargetMethod();
+            rateLimiter = other.getRateLimiter();
+            decodingThreshold = other.getDecodingThreshold();
+            prefetch = other.getPrefetch();
+            compressionThreshold = other.getCompressionThreshold();
         }
         
         public Builder addPath(String path) {
@@ -122,12 +163,52 @@ public class MethodMetadata {
             return this;
         }
         
+        public Builder targetType(Class<?> targetType) {
+            this.targetType = targetType;
+            return this;
+        }
+        
         public Builder targetMethod(Method targetMethod) {
             this.targetMethod = targetMethod;
             this.returnType = ResolvableType.forMethodReturnType(targetMethod);
             return this;
         }
         
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+        
+        public Builder decodingThreshold(Long decodingThreshold) {
+            this.decodingThreshold = decodingThreshold;
+            return this;
+        }
+        
+        public Builder prefetch(Integer prefetch) {
+            this.prefetch = prefetch;
+            return this;
+        }
+        
+        public Builder writeCoalescing(WriteCoalescing writeCoalescing) {
+            this.writeCoalescing = writeCoalescing;
+            return this;
+        }
+        
+        public Builder downloadIndex(Integer downloadIndex) {
+            this.downloadIndex = downloadIndex;
+            return this;
+        }
+        
+        public Builder downloadSplitting(DownloadSplitting downloadSplitting) {
+            this.downloadSplitting = downloadSplitting;
+            return this;
+        }
+        
+        public Builder compressionThreshold(Long compressionThreshold) {
+            this.compressionThreshold = compressionThreshold;
+            return this;
+        }
+        
         public MethodMetadata build() {
             return new MethodMetadata(this);
         }
@@ -1,10 +1,22 @@
 package com.webfluxclient.metadata;
 
+import com.webfluxclient.RateLimiters;
+import com.webfluxclient.annotation.Compress;
+import com.webfluxclient.annotation.NdjsonBody;
+import com.webfluxclient.annotation.OffloadDecoding;
+import com.webfluxclient.annotation.Prefetch;
+import com.webfluxclient.annotation.RangedDownload;
+import com.webfluxclient.annotation.RateLimit;
 import com.webfluxclient.metadata.annotation.AnnotatedParameterProcessor;
+import com.webfluxclient.metadata.annotation.DownloadToParameterProcessor;
 import com.webfluxclient.metadata.annotation.PathVariableParameterProcessor;
 import com.webfluxclient.metadata.annotation.RequestBodyParameterProcessor;
 import com.webfluxclient.metadata.annotation.RequestHeaderParameterProcessor;
 import com.webfluxclient.metadata.annotation.RequestParamParameterProcessor;
+import com.webfluxclient.metadata.request.RequestTemplate;
+import com.webfluxclient.metadata.request.WriteCoalescing;
+import com.webfluxclient.utils.DomainSockets;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.StandardAnnotationMetadata;
@@ -20,6 +32,8 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +41,9 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static com.webfluxclient.utils.Types.isMono;
+import static com.webfluxclient.utils.Types.isPublisher;
+
 public class MethodMetadataFactory {
 
     private Map<Class<? extends Annotation>, AnnotatedParameterProcessor> annotatedArgumentProcessors;
@@ -36,7 +53,8 @@ public class MethodMetadataFactory {
                 new PathVariableParameterProcessor(),
                 new RequestParamParameterProcessor(),
                 new RequestHeaderParameterProcessor(),
-                new RequestBodyParameterProcessor())
+                new RequestBodyParameterProcessor(),
+                new DownloadToParameterProcessor())
                 .collect(Collectors.toMap(AnnotatedParameterProcessor::getAnnotationType, Function.identity()));
     }
 
@@ -52,14 +70,33 @@ public class MethodMetadataFactory {
 
             processAnnotationOnMethod(method, requestTemplateBuilder);
 
-            result.add(requestTemplateBuilder.build());
+            MethodMetadata methodMetadata = requestTemplateBuilder.build();
+            validate(methodMetadata);
+            result.add(methodMetadata);
         }
         return result;
     }
 
+    void validate(MethodMetadata methodMetadata) {
+        RequestTemplate requestTemplate = methodMetadata.getRequestTemplate();
+        Assert.isTrue(requestTemplate.getWriteCoalescing() == null ||
+                        (requestTemplate.getRequestBodyType() != null && isPublisher(requestTemplate.getRequestBodyType())),
+                () -> "Invalid method " + methodMetadata.getTargetMethod() + ": @NdjsonBody requires a Publisher body");
+        Assert.isTrue(methodMetadata.getDownloadSplitting() == null || methodMetadata.getDownloadIndex() != null,
+                () -> "Invalid method " + methodMetadata.getTargetMethod() + ": @RangedDownload requires a @DownloadTo parameter");
+        Assert.isTrue(methodMetadata.getDownloadIndex() == null || isDownloadType(methodMetadata.getResponseBodyType()),
+                () -> "Invalid method " + methodMetadata.getTargetMethod() + ": a @DownloadTo method must return Mono<Path>, Mono<Void>, Path or void");
+    }
+
+    private static boolean isDownloadType(ResolvableType returnType) {
+        Class<?> bodyType = (isMono(returnType) ? returnType.getGeneric(0) : returnType).resolve();
+        return bodyType == Path.class || bodyType == Void.class || bodyType == void.class;
+    }
+
     MethodMetadata processTarget(Class<?> target, URI uri) {
         MethodMetadata.Builder rootRequestTemplate = MethodMetadata.newBuilder(uri)
-                .addPath(uri.getPath());
+                .targetType(target)
+                .addPath(DomainSockets.isDomainSocket(uri) ? "" : uri.getPath());
 
         Assert.isTrue(target.getInterfaces().length <= 1, () -> "Invalid class " + target.getName() + ":Only one level of inheritance is currently supported");
         if (target.getInterfaces().length == 1) {
@@ -77,6 +114,12 @@ public class MethodMetadataFactory {
         Parameter[] parameters = method.getParameters();
 
         processRequestMappingAnnotation(methodMetadata, requestTemplateBuilder);
+        processRateLimitAnnotation(methodMetadata, requestTemplateBuilder);
+        processOffloadDecodingAnnotation(methodMetadata, requestTemplateBuilder);
+        processPrefetchAnnotation(methodMetadata, requestTemplateBuilder);
+        processCompressAnnotation(methodMetadata, requestTemplateBuilder);
+        processNdjsonBodyAnnotation(methodMetadata, requestTemplateBuilder);
+        processRangedDownloadAnnotation(methodMetadata, requestTemplateBuilder);
 
         for (int i = 0; i < parameters.length; i++) {
             Parameter parameter = parameters[i];
@@ -100,6 +143,62 @@ public class MethodMetadataFactory {
 
     private void processAnnotationOnClass(AnnotationMetadata annotationMetadata, MethodMetadata.Builder requestTemplateBuilder) {
         processRequestMappingAnnotation(annotationMetadata, requestTemplateBuilder);
+        processRateLimitAnnotation(annotationMetadata, requestTemplateBuilder);
+        processOffloadDecodingAnnotation(annotationMetadata, requestTemplateBuilder);
+        processPrefetchAnnotation(annotationMetadata, requestTemplateBuilder);
+        processCompressAnnotation(annotationMetadata, requestTemplateBuilder);
+    }
+
+    void processRateLimitAnnotation(AnnotatedTypeMetadata annotatedTypeMetadata, MethodMetadata.Builder requestTemplateBuilder) {
+        Map<String, Object> rateLimitAttributes = annotatedTypeMetadata.getAnnotationAttributes(RateLimit.class.getName());
+        if (rateLimitAttributes != null && !rateLimitAttributes.isEmpty()) {
+            requestTemplateBuilder.rateLimiter(RateLimiters.tokenBucket(
+                    (Double) rateLimitAttributes.get("permitsPerSecond"),
+                    (Integer) rateLimitAttributes.get("burst"),
+                    Duration.ofMillis((Long) rateLimitAttributes.get("maxWaitMillis"))));
+        }
+    }
+
+    void processOffloadDecodingAnnotation(AnnotatedTypeMetadata annotatedTypeMetadata, MethodMetadata.Builder requestTemplateBuilder) {
+        Map<String, Object> offloadDecodingAttributes = annotatedTypeMetadata.getAnnotationAttributes(OffloadDecoding.class.getName());
+        if (offloadDecodingAttributes != null && !offloadDecodingAttributes.isEmpty()) {
+            requestTemplateBuilder.decodingThreshold((Long) offloadDecodingAttributes.get("thresholdBytes"));
+        }
+    }
+
+    void processPrefetchAnnotation(AnnotatedTypeMetadata annotatedTypeMetadata, MethodMetadata.Builder requestTemplateBuilder) {
+        Map<String, Object> prefetchAttributes = annotatedTypeMetadata.getAnnotationAttributes(Prefetch.class.getName());
+        if (prefetchAttributes != null && !prefetchAttributes.isEmpty()) {
+            Integer prefetch = (Integer) prefetchAttributes.get("value");
+            Assert.isTrue(prefetch > 0, "'prefetch' must be greater than 0");
+            requestTemplateBuilder.prefetch(prefetch);
+        }
+    }
+
+    void processCompressAnnotation(AnnotatedTypeMetadata annotatedTypeMetadata, MethodMetadata.Builder requestTemplateBuilder) {
+        Map<String, Object> compressAttributes = annotatedTypeMetadata.getAnnotationAttributes(Compress.class.getName());
+        if (compressAttributes != null && !compressAttributes.isEmpty()) {
+            requestTemplateBuilder.compressionThreshold((Long) compressAttributes.get("thresholdBytes"));
+        }
+    }
+
+    void processNdjsonBodyAnnotation(AnnotatedTypeMetadata annotatedTypeMetadata, MethodMetadata.Builder requestTemplateBuilder) {
+        Map<String, Object> ndjsonBodyAttributes = annotatedTypeMetadata.getAnnotationAttributes(NdjsonBody.class.getName());
+        if (ndjsonBodyAttributes != null && !ndjsonBodyAttributes.isEmpty()) {
+            requestTemplateBuilder.writeCoalescing(WriteCoalescing.of(
+                    (Integer) ndjsonBodyAttributes.get("maxBytes"),
+                    Duration.ofMillis((Long) ndjsonBodyAttributes.get("maxDelayMillis"))));
+        }
+    }
+
+    void processRangedDownloadAnnotation(AnnotatedTypeMetadata annotatedTypeMetadata, MethodMetadata.Builder requestTemplateBuilder) {
+        Map<String, Object> rangedDownloadAttributes = annotatedTypeMetadata.getAnnotationAttributes(RangedDownload.class.getName());
+        if (rangedDownloadAttributes != null && !rangedDownloadAttributes.isEmpty()) {
+            requestTemplateBuilder.downloadSplitting(DownloadSplitting.of(
+                    (Integer) rangedDownloadAttributes.get("parts"),
+                    (Long) rangedDownloadAttributes.get("minPartBytes"),
+                    (Integer) rangedDownloadAttributes.get("maxRetries")));
+        }
     }
 
     private void processRequestMappingAnnotation(AnnotatedTypeMetadata annotatedTypeMetadata, MethodMetadata.Builder requestTemplateBuilder) {
@@ -0,0 +1,23 @@
+package com.webfluxclient.metadata.annotation;
+
+import com.webfluxclient.annotation.DownloadTo;
+import com.webfluxclient.metadata.MethodMetadata;
+import org.springframework.util.Assert;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+
+public class DownloadToParameterProcessor implements AnnotatedParameterProcessor {
+
+    @Override
+    public Class<? extends Annotation> getAnnotationType() {
+        return DownloadTo.class;
+    }
+
+    @Override
+    public void processAnnotation(MethodMetadata.Builder requestTemplateBuilder, Annotation annotation, Integer integer, Type parameterType) {
+        Assert.isTrue(parameterType == Path.class, "@DownloadTo is only supported on Path parameters");
+        requestTemplateBuilder.downloadIndex(integer);
+    }
+}
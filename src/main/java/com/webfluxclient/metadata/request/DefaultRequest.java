@@ -8,6 +8,7 @@ import org.springframework.web.util.UriBuilder;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -17,14 +18,25 @@ public class DefaultRequest implements Request {
     private HttpHeaders httpHeaders;
     private Map<String, Object> variables;
     private BodyInserter<?, ? super ClientHttpRequest> bodyInserter;
+    private Map<String, Object> attributes;
     
     public DefaultRequest(UriBuilder uriBuilder,
                           HttpMethod httpMethod,
                           HttpHeaders httpHeaders,
                           Map<String, Object> variables,
                           BodyInserter<?, ? super ClientHttpRequest> bodyInserter) {
+        this(uriBuilder, httpMethod, httpHeaders, variables, bodyInserter, Collections.emptyMap());
+    }
+    
+    public DefaultRequest(UriBuilder uriBuilder,
+                          HttpMethod httpMethod,
+                          HttpHeaders httpHeaders,
+                          Map<String, Object> variables,
+                          BodyInserter<?, ? super ClientHttpRequest> bodyInserter,
+                          Map<String, Object> attributes) {
     
         this.uriBuilder = uriBuilder;
+        this.attributes = attributes;
         this.httpMethod = httpMethod;
         this.bodyInserter = bodyInserter;
         this.variables = new HashMap<>();
@@ -53,6 +65,11 @@ public class DefaultRequest implements Request {
         return bodyInserter;
     }
     
+    @Override
+    public Map<String, Object> attributes() {
+        return attributes;
+    }
+    
     @Override
     public URI expand() {
         variables.forEach((name, value) -> variables.replace(name, processVariable(value)));
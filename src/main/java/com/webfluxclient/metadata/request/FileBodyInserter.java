@@ -0,0 +1,61 @@
+package com.webfluxclient.metadata.request;
+
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Write a file body with {@link ZeroCopyHttpOutputMessage#writeWith(File, long, long)} when the request supports it,
+ * which reactor-netty sends with a Netty {@code FileRegion}, and so the kernel {@code sendfile}, unless TLS is used.
+ * Other requests read the file in chunks with an {@link AsynchronousFileChannel}.
+ * The {@code Content-Length} is the size of the file.
+ */
+class FileBodyInserter {
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    static BodyInserter<File, ReactiveHttpOutputMessage> fromFile(File file) {
+        return new BodyInserter<File, ReactiveHttpOutputMessage>() {
+            @Override
+            public Mono<Void> insert(ReactiveHttpOutputMessage outputMessage, Context context) {
+                long length = file.length();
+                HttpHeaders headers = outputMessage.getHeaders();
+                headers.setContentLength(length);
+                if (headers.getContentType() == null) {
+                    headers.setContentType(MediaTypeFactory.getMediaType(file.getName()).orElse(MediaType.APPLICATION_OCTET_STREAM));
+                }
+                if (outputMessage instanceof ZeroCopyHttpOutputMessage) {
+                    return ((ZeroCopyHttpOutputMessage) outputMessage).writeWith(file, 0, length);
+                }
+                return outputMessage.writeWith(Flux.using(
+                        () -> AsynchronousFileChannel.open(file.toPath(), StandardOpenOption.READ),
+                        channel -> DataBufferUtils.read(channel, outputMessage.bufferFactory(), BUFFER_SIZE),
+                        FileBodyInserter::close));
+            }
+
+            @Override
+            public String toString() {
+                return "File " + file;
+            }
+        };
+    }
+
+    private static void close(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        }
+        catch (IOException e) {
+            // nothing left to read
+        }
+    }
+}
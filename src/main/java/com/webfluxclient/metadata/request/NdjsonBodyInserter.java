@@ -0,0 +1,298 @@
+package com.webfluxclient.metadata.request;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write a {@link Publisher} body as newline delimited JSON, with the {@link ObjectMapper} of the configured {@link Jackson2JsonEncoder}.
+ * The elements are encoded straight into buffers of the request {@link DataBufferFactory}, pooled with Netty,
+ * and a buffer is written when it reaches the size threshold or when its first element waited for the maximum delay.
+ * Elements are requested one at a time and only while the pending buffer isn't full, so the body follows
+ * the demand of the connection.
+ */
+class NdjsonBodyInserter {
+    static final MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+
+    static <T> BodyInserter<Publisher<T>, ReactiveHttpOutputMessage> fromPublisher(Publisher<T> body, WriteCoalescing writeCoalescing) {
+        return new BodyInserter<Publisher<T>, ReactiveHttpOutputMessage>() {
+            @Override
+            public Mono<Void> insert(ReactiveHttpOutputMessage outputMessage, Context context) {
+                ObjectMapper objectMapper = objectMapper(context.messageWriters());
+                if (objectMapper == null) {
+                    return Mono.error(new IllegalStateException("No Jackson2JsonEncoder available to write an NDJSON body"));
+                }
+                if (outputMessage.getHeaders().getContentType() == null) {
+                    outputMessage.getHeaders().setContentType(APPLICATION_NDJSON);
+                }
+                ObjectWriter objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                return outputMessage.writeWith(coalesce(body, objectWriter, outputMessage.bufferFactory(), writeCoalescing, Schedulers.parallel()));
+            }
+
+            @Override
+            public String toString() {
+                return "NDJSON " + body;
+            }
+        };
+    }
+
+    static <T> Flux<DataBuffer> coalesce(Publisher<T> body, ObjectWriter objectWriter, DataBufferFactory bufferFactory, WriteCoalescing writeCoalescing, Scheduler scheduler) {
+        return Flux.from(subscriber -> body.subscribe(new Coalescer<>(subscriber, objectWriter, bufferFactory, writeCoalescing, scheduler)));
+    }
+
+    private static ObjectMapper objectMapper(List<HttpMessageWriter<?>> messageWriters) {
+        for (HttpMessageWriter<?> messageWriter : messageWriters) {
+            if (messageWriter instanceof EncoderHttpMessageWriter &&
+                    ((EncoderHttpMessageWriter<?>) messageWriter).getEncoder() instanceof Jackson2JsonEncoder) {
+                return ((Jackson2JsonEncoder) ((EncoderHttpMessageWriter<?>) messageWriter).getEncoder()).getObjectMapper();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * State is guarded by the monitor of the coalescer, since the flush timer runs on another thread.
+     * Buffers ready to be written are queued under it and emitted outside of it by a single thread at a time,
+     * and upstream requests are made outside of it in a loop, so neither side is reentered under the lock.
+     */
+    private static class Coalescer<T> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super DataBuffer> actual;
+        private final ObjectWriter objectWriter;
+        private final DataBufferFactory bufferFactory;
+        private final int maxBytes;
+        private final long maxDelayMillis;
+        private final Scheduler scheduler;
+        private final Deque<DataBuffer> ready = new ArrayDeque<>();
+        private Subscription upstream;
+        private DataBuffer pending;
+        private Disposable flushTimer;
+        private Throwable error;
+        private long demand;
+        private boolean flushDue;
+        private boolean upstreamRequested;
+        private boolean requesting;
+        private boolean emitting;
+        private boolean done;
+        private boolean terminated;
+        private boolean signalled;
+        private boolean cancelled;
+
+        Coalescer(Subscriber<? super DataBuffer> actual, ObjectWriter objectWriter, DataBufferFactory bufferFactory, WriteCoalescing writeCoalescing, Scheduler scheduler) {
+            this.actual = actual;
+            this.objectWriter = objectWriter;
+            this.bufferFactory = bufferFactory;
+            this.maxBytes = writeCoalescing.getMaxBytes();
+            this.maxDelayMillis = writeCoalescing.getMaxDelay().toMillis();
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (Operators.validate(upstream, subscription)) {
+                upstream = subscription;
+                actual.onSubscribe(this);
+                requestUpstream();
+            }
+        }
+
+        @Override
+        public void onNext(T element) {
+            boolean failed = false;
+            synchronized (this) {
+                if (done || cancelled) {
+                    return;
+                }
+                upstreamRequested = false;
+                if (pending == null) {
+                    DataBuffer dataBuffer = bufferFactory.allocateBuffer(maxBytes);
+                    pending = dataBuffer;
+                    flushTimer = scheduler.schedule(() -> onFlushDelay(dataBuffer), maxDelayMillis, TimeUnit.MILLISECONDS);
+                }
+                try {
+                    objectWriter.writeValue(pending.asOutputStream(), element);
+                    pending.write((byte) '\n');
+                    if (pending.readableByteCount() >= maxBytes) {
+                        flushDue = true;
+                        drainPending();
+                    }
+                }
+                catch (IOException e) {
+                    fail(new EncodingException("JSON encoding error: " + e.getMessage(), e));
+                    failed = true;
+                }
+            }
+            if (failed) {
+                upstream.cancel();
+            }
+            emit();
+            requestUpstream();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            synchronized (this) {
+                if (done || cancelled) {
+                    return;
+                }
+                fail(throwable);
+            }
+            emit();
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                if (done || cancelled) {
+                    return;
+                }
+                done = true;
+                flushDue = true;
+                drainPending();
+            }
+            emit();
+        }
+
+        @Override
+        public void request(long n) {
+            if (Operators.validate(n)) {
+                synchronized (this) {
+                    demand = Operators.addCap(demand, n);
+                    drainPending();
+                }
+                emit();
+                requestUpstream();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                discardPending();
+                ready.forEach(DataBufferUtils::release);
+                ready.clear();
+            }
+            upstream.cancel();
+        }
+
+        private void onFlushDelay(DataBuffer dataBuffer) {
+            synchronized (this) {
+                if (cancelled || pending != dataBuffer) {
+                    return;
+                }
+                flushDue = true;
+                drainPending();
+            }
+            emit();
+            requestUpstream();
+        }
+
+        private void drainPending() {
+            if (flushDue && pending != null && demand > 0) {
+                ready.add(pending);
+                pending = null;
+                flushDue = false;
+                flushTimer.dispose();
+                demand--;
+            }
+            if (done && pending == null && !terminated && !cancelled) {
+                terminated = true;
+            }
+        }
+
+        private void fail(Throwable throwable) {
+            done = true;
+            terminated = true;
+            error = throwable;
+            discardPending();
+        }
+
+        private void discardPending() {
+            if (pending != null) {
+                flushTimer.dispose();
+                DataBufferUtils.release(pending);
+                pending = null;
+            }
+        }
+
+        private void emit() {
+            synchronized (this) {
+                if (emitting) {
+                    return;
+                }
+                emitting = true;
+            }
+            for (;;) {
+                DataBuffer dataBuffer;
+                Throwable throwable = null;
+                synchronized (this) {
+                    dataBuffer = ready.poll();
+                    if (dataBuffer == null) {
+                        if (!terminated || signalled || cancelled) {
+                            emitting = false;
+                            return;
+                        }
+                        signalled = true;
+                        throwable = error;
+                    }
+                }
+                if (dataBuffer != null) {
+                    actual.onNext(dataBuffer);
+                }
+                else if (throwable != null) {
+                    actual.onError(throwable);
+                }
+                else {
+                    actual.onComplete();
+                }
+            }
+        }
+
+        private void requestUpstream() {
+            synchronized (this) {
+                if (requesting) {
+                    return;
+                }
+                requesting = true;
+            }
+            for (;;) {
+                synchronized (this) {
+                    if (upstreamRequested || done || cancelled || (pending != null && flushDue)) {
+                        requesting = false;
+                        return;
+                    }
+                    upstreamRequested = true;
+                }
+                upstream.request(1);
+            }
+        }
+    }
+}
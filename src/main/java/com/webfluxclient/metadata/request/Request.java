@@ -18,5 +18,7 @@ public interface Request {
     
     BodyInserter<?, ? super ClientHttpRequest> bodyInserter();
     
+    Map<String, Object> attributes();
+    
     URI expand();
 }
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.reactivestreams.Publisher;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpMethod;
@@ -13,6 +14,7 @@ import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.util.UriBuilder;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,14 +28,17 @@ public class RequestTemplate {
     private RequestHeaders requestHeaders;
     private Integer bodyIndex;
     private ResolvableType requestBodyType;
+    private WriteCoalescing writeCoalescing;
     private MultiValueMap<Integer, String> variableIndexToName;
+    private Map<String, Object> attributes;
 
     public Request apply(Object[] args) {
         return new DefaultRequest(uriBuilder,
                 httpMethod,
                 requestHeaders.encode(args),
                 nameToVariable(args),
-                buildBody(args));
+                buildBody(args),
+                attributes);
     }
 
     private BodyInserter<?, ? super ClientHttpRequest> buildBody(Object[] args) {
@@ -44,10 +49,16 @@ public class RequestTemplate {
         Object body = args[bodyIndex];
         if (isDataBufferPublisher(requestBodyType)) {
             return BodyInserters.fromDataBuffers((Publisher<DataBuffer>) body);
+        } else if (isPublisher(requestBodyType) && writeCoalescing != null) {
+            return NdjsonBodyInserter.fromPublisher((Publisher<?>) body, writeCoalescing);
         } else if (isPublisher(requestBodyType)) {
             return BodyInserters.fromPublisher((Publisher) body, requestBodyType.getGeneric(0).getRawClass());
+        } else if (isPath(requestBodyType)) {
+            return FileBodyInserter.fromFile(((Path) body).toFile());
         } else if (isResource(requestBodyType)) {
-            return BodyInserters.fromResource((Resource) body);
+            return body instanceof FileSystemResource ?
+                    FileBodyInserter.fromFile(((FileSystemResource) body).getFile()) :
+                    BodyInserters.fromResource((Resource) body);
         } else if (isFormData(requestBodyType)) {
             return BodyInserters.fromFormData((MultiValueMap<String, String>) body);
         } else {
@@ -0,0 +1,38 @@
+package com.webfluxclient.metadata.request;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * Thresholds at which the elements of a streamed request body are written to the connection.
+ */
+public class WriteCoalescing {
+    private final int maxBytes;
+    private final Duration maxDelay;
+
+    private WriteCoalescing(int maxBytes, Duration maxDelay) {
+        this.maxBytes = maxBytes;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * @param maxBytes The size in bytes above which the pending elements are written.
+     * @param maxDelay The maximum time an element waits for others before being written.
+     * @return the write thresholds
+     */
+    public static WriteCoalescing of(int maxBytes, Duration maxDelay) {
+        Assert.isTrue(maxBytes > 0, "'maxBytes' must be greater than 0");
+        Assert.notNull(maxDelay, "'maxDelay' Can't be null");
+        Assert.isTrue(!maxDelay.isNegative() && !maxDelay.isZero(), "'maxDelay' must be positive");
+        return new WriteCoalescing(maxBytes, maxDelay);
+    }
+
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+}
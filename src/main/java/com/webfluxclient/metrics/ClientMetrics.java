@@ -0,0 +1,76 @@
+package com.webfluxclient.metrics;
+
+import com.webfluxclient.ExchangeTimingListener;
+import com.webfluxclient.client.ConnectionPhase;
+import com.webfluxclient.client.ConnectionTimings;
+import com.webfluxclient.client.ExchangePhase;
+import com.webfluxclient.client.ExchangeTimings;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metrics of the methods of the clients built with it.
+ * Keep a reference on it to query the metrics of each method.
+ * As {@link ExchangeTimingListener}, it aggregates the phases of the exchanges per method and of the new connections.
+ *
+ * @author Jérémy Brixhe
+ * */
+public class ClientMetrics implements ExchangeTimingListener {
+    private Map<Method, MethodMetrics> methodMetrics;
+    private LatencyRecorder[] connectionLatencyRecorders;
+
+    private ClientMetrics() {
+        this.methodMetrics = new ConcurrentHashMap<>();
+        this.connectionLatencyRecorders = new LatencyRecorder[ConnectionPhase.values().length];
+        for (int i = 0; i < connectionLatencyRecorders.length; i++) {
+            connectionLatencyRecorders[i] = new LatencyRecorder();
+        }
+    }
+
+    public static ClientMetrics create() {
+        return new ClientMetrics();
+    }
+
+    public MethodMetrics methodMetrics(Method method) {
+        return methodMetrics.computeIfAbsent(method, MethodMetrics::new);
+    }
+
+    public Collection<MethodMetrics> getMethodMetrics() {
+        return Collections.unmodifiableCollection(methodMetrics.values());
+    }
+
+    /**
+     * @return the latencies of the connection phase recorded since the previous call
+     */
+    public LatencySnapshot intervalConnectionLatency(ConnectionPhase connectionPhase) {
+        return connectionLatencyRecorders[connectionPhase.ordinal()].intervalSnapshot();
+    }
+
+    @Override
+    public void onExchange(ExchangeTimings exchangeTimings) {
+        if (exchangeTimings.getMethodMetadata() == null) {
+            return;
+        }
+        MethodMetrics metrics = methodMetrics(exchangeTimings.getMethodMetadata().getTargetMethod());
+        for (ExchangePhase exchangePhase : ExchangePhase.values()) {
+            long duration = exchangeTimings.getDuration(exchangePhase);
+            if (duration >= 0) {
+                metrics.recordPhase(exchangePhase, duration);
+            }
+        }
+    }
+
+    @Override
+    public void onConnection(ConnectionTimings connectionTimings) {
+        for (ConnectionPhase connectionPhase : ConnectionPhase.values()) {
+            long duration = connectionTimings.getDuration(connectionPhase);
+            if (duration >= 0) {
+                connectionLatencyRecorders[connectionPhase.ordinal()].record(duration);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.webfluxclient.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Log-linear latency histogram recorded by concurrent writers without locks.
+ * Values are stored in buckets of about 3% precision, a snapshot returns the values recorded since the previous one.
+ * The buckets of a power of two are allocated the first time a value falls in it, so a recorder holds under 1 KB
+ * before any value is recorded, and about 600 bytes more per power of two of recorded values: a few KB for
+ * latencies spanning microseconds to seconds, instead of 30 KB for the whole range up front.
+ */
+public class LatencyRecorder {
+    static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (63 - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT;
+    static final int CHUNK_BITS = SUB_BUCKET_BITS - 1;
+    static final int CHUNK_COUNT = BUCKET_COUNT >> CHUNK_BITS;
+
+    private final WriterReaderPhaser phaser;
+    private volatile Buckets active;
+    private Buckets inactive;
+
+    public LatencyRecorder() {
+        this.phaser = new WriterReaderPhaser();
+        this.active = new Buckets();
+        this.inactive = new Buckets();
+    }
+
+    public void record(long valueNanos) {
+        long criticalValue = phaser.writerCriticalSectionEnter();
+        try {
+            active.record(valueNanos < 0 ? 0 : valueNanos);
+        }
+        finally {
+            phaser.writerCriticalSectionExit(criticalValue);
+        }
+    }
+
+    /**
+     * @return the values recorded since the previous snapshot
+     */
+    public synchronized LatencySnapshot intervalSnapshot() {
+        Buckets recorded = active;
+        inactive.reset();
+        active = inactive;
+        phaser.flipPhase();
+        inactive = recorded;
+        return recorded.snapshot();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS + 1;
+        return SUB_BUCKET_COUNT + (magnitude - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT + (int) (value >>> shift) - HALF_SUB_BUCKET_COUNT;
+    }
+
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int group = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT;
+        int subBucket = (index - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        int shift = group + 1;
+        return (((long) subBucket + 1) << shift) - 1;
+    }
+
+    private static class Buckets {
+        private final AtomicReferenceArray<AtomicLongArray> chunks = new AtomicReferenceArray<>(CHUNK_COUNT);
+        private final AtomicLong totalCount = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long value) {
+            int index = bucketIndex(value);
+            chunk(index >> CHUNK_BITS).incrementAndGet(index & (HALF_SUB_BUCKET_COUNT - 1));
+            totalCount.incrementAndGet();
+            totalNanos.addAndGet(value);
+            long max;
+            while (value > (max = maxNanos.get())) {
+                if (maxNanos.compareAndSet(max, value)) {
+                    break;
+                }
+            }
+        }
+
+        private AtomicLongArray chunk(int chunkIndex) {
+            AtomicLongArray chunk = chunks.get(chunkIndex);
+            if (chunk == null) {
+                chunks.compareAndSet(chunkIndex, null, new AtomicLongArray(HALF_SUB_BUCKET_COUNT));
+                chunk = chunks.get(chunkIndex);
+            }
+            return chunk;
+        }
+
+        private void reset() {
+            for (int i = 0; i < CHUNK_COUNT; i++) {
+                AtomicLongArray chunk = chunks.get(i);
+                if (chunk != null) {
+                    for (int j = 0; j < HALF_SUB_BUCKET_COUNT; j++) {
+                        chunk.lazySet(j, 0);
+                    }
+                }
+            }
+            totalCount.lazySet(0);
+            totalNanos.lazySet(0);
+            maxNanos.set(0);
+        }
+
+        private LatencySnapshot snapshot() {
+            long[] values = new long[BUCKET_COUNT];
+            for (int i = 0; i < CHUNK_COUNT; i++) {
+                AtomicLongArray chunk = chunks.get(i);
+                if (chunk != null) {
+                    for (int j = 0; j < HALF_SUB_BUCKET_COUNT; j++) {
+                        values[(i << CHUNK_BITS) + j] = chunk.get(j);
+                    }
+                }
+            }
+            return new LatencySnapshot(values, totalCount.get(), totalNanos.get(), maxNanos.get());
+        }
+    }
+}
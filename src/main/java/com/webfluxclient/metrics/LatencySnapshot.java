@@ -0,0 +1,52 @@
+package com.webfluxclient.metrics;
+
+import org.springframework.util.Assert;
+
+/**
+ * Immutable view of the latencies recorded during an interval, all values are in nanoseconds.
+ */
+public class LatencySnapshot {
+    private final long[] counts;
+    private final long totalCount;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    LatencySnapshot(long[] counts, long totalCount, long totalNanos, long maxNanos) {
+        this.counts = counts;
+        this.totalCount = totalCount;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return maxNanos;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) totalNanos / totalCount;
+    }
+
+    /**
+     * @param percentile The percentile to compute, between 0 and 100.
+     * @return the highest value of the bucket holding the percentile, capped to the max recorded value
+     */
+    public long getValueAtPercentile(double percentile) {
+        Assert.isTrue(percentile >= 0 && percentile <= 100, "'percentile' must be between 0 and 100");
+        if (totalCount == 0) {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            if (count >= countAtPercentile) {
+                return Math.min(LatencyRecorder.highestValueAt(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+}
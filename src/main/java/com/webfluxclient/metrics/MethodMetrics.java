@@ -0,0 +1,91 @@
+package com.webfluxclient.metrics;
+
+import com.webfluxclient.client.ExchangePhase;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency, throughput and in-flight calls of a single client method.
+ * The latency is measured from the subscription of the call to the reception of the response headers.
+ * The phase latencies are only recorded when the metrics are also registered as {@link com.webfluxclient.ExchangeTimingListener}.
+ */
+public class MethodMetrics {
+    private final Method method;
+    private final LatencyRecorder latencyRecorder;
+    private final LatencyRecorder[] phaseLatencyRecorders;
+    private final LongAdder[] statusClassCounts;
+    private final LongAdder errorCount;
+    private final LongAdder inFlight;
+
+    MethodMetrics(Method method) {
+        this.method = method;
+        this.latencyRecorder = new LatencyRecorder();
+        this.phaseLatencyRecorders = new LatencyRecorder[ExchangePhase.values().length];
+        for (int i = 0; i < phaseLatencyRecorders.length; i++) {
+            phaseLatencyRecorders[i] = new LatencyRecorder();
+        }
+        this.statusClassCounts = new LongAdder[HttpStatus.Series.values().length];
+        for (int i = 0; i < statusClassCounts.length; i++) {
+            statusClassCounts[i] = new LongAdder();
+        }
+        this.errorCount = new LongAdder();
+        this.inFlight = new LongAdder();
+    }
+
+    public Mono<ClientResponse> record(Mono<ClientResponse> exchange) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            inFlight.increment();
+            return exchange
+                    .doOnNext(clientResponse -> onResponse(clientResponse, startNanos))
+                    .doOnError(throwable -> errorCount.increment())
+                    .doFinally(signalType -> inFlight.decrement());
+        });
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the latencies recorded since the previous call
+     */
+    public LatencySnapshot intervalLatency() {
+        return latencyRecorder.intervalSnapshot();
+    }
+
+    /**
+     * @return the latencies of the phase recorded since the previous call
+     */
+    public LatencySnapshot intervalLatency(ExchangePhase exchangePhase) {
+        return phaseLatencyRecorders[exchangePhase.ordinal()].intervalSnapshot();
+    }
+
+    public long getCount(HttpStatus.Series series) {
+        return statusClassCounts[series.ordinal()].sum();
+    }
+
+    /**
+     * @return the number of calls that failed before receiving a response
+     */
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    void recordPhase(ExchangePhase exchangePhase, long durationNanos) {
+        phaseLatencyRecorders[exchangePhase.ordinal()].record(durationNanos);
+    }
+
+    private void onResponse(ClientResponse clientResponse, long startNanos) {
+        latencyRecorder.record(System.nanoTime() - startNanos);
+        statusClassCounts[clientResponse.statusCode().series().ordinal()].increment();
+    }
+}
@@ -0,0 +1,37 @@
+package com.webfluxclient.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Phaser letting wait-free writers record into the active side of a double buffer while a reader swaps
+ * the buffers, then waits for writers still in flight on the previous side.
+ * Same algorithm as the HdrHistogram {@code WriterReaderPhaser}.
+ */
+class WriterReaderPhaser {
+    private final AtomicLong startEpoch = new AtomicLong(0);
+    private final AtomicLong evenEndEpoch = new AtomicLong(0);
+    private final AtomicLong oddEndEpoch = new AtomicLong(Long.MIN_VALUE);
+
+    long writerCriticalSectionEnter() {
+        return startEpoch.getAndIncrement();
+    }
+
+    void writerCriticalSectionExit(long criticalValueAtEnter) {
+        (criticalValueAtEnter < 0 ? oddEndEpoch : evenEndEpoch).getAndIncrement();
+    }
+
+    /**
+     * Must be called by a single reader at a time, after the active buffer has been swapped.
+     */
+    void flipPhase() {
+        boolean nextPhaseIsEven = startEpoch.get() < 0;
+        long initialStartValue = nextPhaseIsEven ? 0 : Long.MIN_VALUE;
+        (nextPhaseIsEven ? evenEndEpoch : oddEndEpoch).lazySet(initialStartValue);
+
+        long startValueAtFlip = startEpoch.getAndSet(initialStartValue);
+        AtomicLong previousEndEpoch = nextPhaseIsEven ? oddEndEpoch : evenEndEpoch;
+        while (previousEndEpoch.get() != startValueAtFlip) {
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.webfluxclient.utils;
+
+import java.net.URI;
+
+public abstract class DomainSockets {
+
+    /**
+     * Scheme of the base URIs of a Unix domain socket, the path of the URI is the path of the socket.
+     */
+    public static final String SCHEME = "unix";
+
+    /**
+     * Authority of the requests sent over a Unix domain socket, used as their {@code Host} header.
+     */
+    public static final String AUTHORITY = "localhost";
+
+    public static boolean isDomainSocket(URI uri) {
+        return SCHEME.equalsIgnoreCase(uri.getScheme());
+    }
+}
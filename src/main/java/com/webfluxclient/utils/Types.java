@@ -9,6 +9,8 @@ import org.springframework.util.MultiValueMap;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.file.Path;
+
 public abstract class Types {
 
     private static final ResolvableType PUBLISHER_TYPE =
@@ -29,6 +31,9 @@ public abstract class Types {
     private static final ResolvableType RESOURCE_TYPE =
             ResolvableType.forClass(Resource.class);
 
+    private static final ResolvableType PATH_TYPE =
+            ResolvableType.forClass(Path.class);
+
     private static final ResolvableType VOID_TYPE =
             ResolvableType.forClass(void.class);
 
@@ -56,6 +61,10 @@ public abstract class Types {
         return RESOURCE_TYPE.isAssignableFrom(bodyType);
     }
 
+    public static boolean isPath(ResolvableType bodyType){
+        return PATH_TYPE.isAssignableFrom(bodyType);
+    }
+
     public static boolean isVoid(ResolvableType bodyType) {
         return VOID_TYPE.isAssignableFrom(bodyType);
     }
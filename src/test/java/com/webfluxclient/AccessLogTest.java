@@ -0,0 +1,90 @@
+package com.webfluxclient;
+
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccessLogTest {
+    private List<String> lines = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void append() {
+        Method method = ReflectionUtils.findMethod(TargetOne.class, "methodOne");
+        AccessLog accessLog = AccessLog.create(new CollectingLogger(), 16);
+
+        assertThat(accessLog.append(0, HttpMethod.GET, URI.create("http://example.ca/accounts"), method, 200, null, TimeUnit.MILLISECONDS.toNanos(22)))
+                .isTrue();
+        assertThat(accessLog.append(0, HttpMethod.POST, URI.create("http://example.ca/accounts"), null, 0, IllegalStateException.class, 0))
+                .isTrue();
+        accessLog.close();
+
+        assertThat(lines).containsExactly(
+                "1970-01-01T00:00:00Z GET http://example.ca/accounts 200 22ms TargetOne.methodOne",
+                "1970-01-01T00:00:00Z POST http://example.ca/accounts java.lang.IllegalStateException 0ms");
+    }
+
+    @Test
+    public void append_whenFull() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AccessLog accessLog = AccessLog.create(new CollectingLogger() {
+            @Override
+            public void log(String message) {
+                blocked.countDown();
+                await(release);
+                super.log(message);
+            }
+        }, 2);
+
+        accessLog.append(0, HttpMethod.GET, URI.create("http://example.ca/accounts"), null, 200, null, 0);
+        blocked.await();
+        accessLog.append(0, HttpMethod.GET, URI.create("http://example.ca/accounts"), null, 200, null, 0);
+        accessLog.append(0, HttpMethod.GET, URI.create("http://example.ca/accounts"), null, 200, null, 0);
+        boolean appended = accessLog.append(0, HttpMethod.GET, URI.create("http://example.ca/accounts"), null, 200, null, 0);
+        release.countDown();
+        accessLog.close();
+
+        assertThat(appended).isFalse();
+        assertThat(accessLog.getDroppedCount()).isEqualTo(1);
+        assertThat(lines).contains("access log dropped 1 records");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class CollectingLogger implements Logger {
+
+        @Override
+        public void log(Supplier<String> messageSupplier) {
+            log(messageSupplier.get());
+        }
+
+        @Override
+        public void log(String message) {
+            lines.addAll(Arrays.asList(message.split("\n")));
+        }
+    }
+
+    private class TargetOne {
+        public void methodOne() {
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.webfluxclient;
 
+import com.webfluxclient.client.RequestExecutorFactory;
 import com.webfluxclient.codec.ErrorDecoder;
 import com.webfluxclient.codec.ExtendedClientCodecConfigurer;
 import com.webfluxclient.codec.HttpClientErrorDecoder;
 import com.webfluxclient.codec.HttpErrorReader;
 import com.webfluxclient.codec.HttpServerErrorDecoder;
 import com.webfluxclient.handler.ReactiveInvocationHandlerFactory;
+import com.webfluxclient.metrics.ClientMetrics;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
@@ -13,8 +15,10 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.http.HttpStatus;
+import reactor.core.scheduler.Schedulers;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -25,6 +29,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -44,12 +49,15 @@ public class DefaultClientBuilderTest {
     @Captor
     private ArgumentCaptor<List<ResponseProcessor>> responseProcessorsArgumentCaptor;
 
+    @Captor
+    private ArgumentCaptor<ClientOptions> optionsArgumentCaptor;
+
 
     @Test
     public void registerDefaultCodecs_withDefaultCodecsDisable(){
         URI targetUri = URI.create("http://example.ca");
 
-        when(reactiveInvocationHandlerFactory.build(codecConfigurerArgumentCaptor.capture(), anyList(), anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+        when(reactiveInvocationHandlerFactory.build(codecConfigurerArgumentCaptor.capture(), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
 
         createBuilder().registerDefaultCodecs(false)
                 .build(TestClient.class, targetUri);
@@ -62,7 +70,7 @@ public class DefaultClientBuilderTest {
         assertThat(codecConfigurer.getErrorReaders())
                 .isEmpty();
 
-        verify(reactiveInvocationHandlerFactory).build(same(codecConfigurer), anyList(), anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri));
+        verify(reactiveInvocationHandlerFactory).build(same(codecConfigurer), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri));
         verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
     }
 
@@ -70,7 +78,7 @@ public class DefaultClientBuilderTest {
     public void registerDefaultCodecs_withDefaultCodecsEnable(){
         URI targetUri = URI.create("http://example.ca");
 
-        when(reactiveInvocationHandlerFactory.build(codecConfigurerArgumentCaptor.capture(), anyList(), anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+        when(reactiveInvocationHandlerFactory.build(codecConfigurerArgumentCaptor.capture(), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
 
         createBuilder().build(TestClient.class, targetUri);
 
@@ -82,7 +90,7 @@ public class DefaultClientBuilderTest {
         assertThat(codecConfigurer.getErrorReaders())
                 .hasSize(2);
 
-        verify(reactiveInvocationHandlerFactory).build(same(codecConfigurer), anyList(), anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri));
+        verify(reactiveInvocationHandlerFactory).build(same(codecConfigurer), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri));
         verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
     }
 
@@ -90,7 +98,7 @@ public class DefaultClientBuilderTest {
     public void registerDefaultCodecs_withCustomErrorDecoder(){
         URI targetUri = URI.create("http://example.ca");
 
-        when(reactiveInvocationHandlerFactory.build(codecConfigurerArgumentCaptor.capture(), anyList(), anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+        when(reactiveInvocationHandlerFactory.build(codecConfigurerArgumentCaptor.capture(), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
 
         createBuilder()
                 .registerDefaultCodecs(false)
@@ -102,7 +110,7 @@ public class DefaultClientBuilderTest {
                 .hasSize(1);
         assertThat(findReader(codecConfigurer.getErrorReaders(), HttpStatus.BAD_REQUEST))
                 .isNotEmpty();
-        verify(reactiveInvocationHandlerFactory).build(same(codecConfigurer), anyList(), anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri));
+        verify(reactiveInvocationHandlerFactory).build(same(codecConfigurer), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri));
         verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
     }
 
@@ -112,7 +120,7 @@ public class DefaultClientBuilderTest {
         OverrideHttpClientErrorDecoder clientErrorDecoder = new OverrideHttpClientErrorDecoder();
         OverrideHttpServerErrorDecoder serverErrorDecoder = new OverrideHttpServerErrorDecoder();
 
-        when(reactiveInvocationHandlerFactory.build(codecConfigurerArgumentCaptor.capture(), anyList(), anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+        when(reactiveInvocationHandlerFactory.build(codecConfigurerArgumentCaptor.capture(), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
 
         createBuilder()
                 .defaultCodecs(defaultCodecsConfigurerConsumer -> {
@@ -127,7 +135,7 @@ public class DefaultClientBuilderTest {
                 .extracting("errorDecoder")
                 .containsExactlyInAnyOrder(clientErrorDecoder, serverErrorDecoder);
 
-        verify(reactiveInvocationHandlerFactory).build(same(codecConfigurer), anyList(), anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri));
+        verify(reactiveInvocationHandlerFactory).build(same(codecConfigurer), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri));
         verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
     }
 
@@ -135,7 +143,7 @@ public class DefaultClientBuilderTest {
     public void registerRequestInterceptor(){
         URI targetUri = URI.create("http://example.ca");
         RequestProcessor requestProcessor = clientRequest -> {System.out.println(clientRequest); return clientRequest;};
-        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), requestProcessorsArgumentCaptor.capture(),  anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), requestProcessorsArgumentCaptor.capture(),  anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
 
         createBuilder()
                 .requestProcessor(requestProcessor)
@@ -146,7 +154,7 @@ public class DefaultClientBuilderTest {
                 .hasSize(1)
                 .containsExactlyInAnyOrder(requestProcessor);
 
-        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), same(requestProcessors),  anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri));
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), same(requestProcessors),  anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri));
         verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
     }
 
@@ -156,7 +164,7 @@ public class DefaultClientBuilderTest {
         RequestProcessor requestProcessor1 = clientRequest -> clientRequest;
         RequestProcessor requestProcessor2 = clientRequest -> clientRequest;
         RequestProcessor requestProcessor3 = clientRequest -> clientRequest;
-        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), requestProcessorsArgumentCaptor.capture(),  anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), requestProcessorsArgumentCaptor.capture(),  anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
 
         createBuilder()
                 .requestProcessor(requestProcessor1)
@@ -171,14 +179,14 @@ public class DefaultClientBuilderTest {
                 .hasSize(3)
                 .containsExactly(requestProcessor1, requestProcessor2, requestProcessor3);
 
-        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), same(requestProcessors),  anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri));
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), same(requestProcessors),  anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri));
         verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
     }
 
     @Test
     public void notRegisterAnyRequestInterceptor(){
         URI targetUri = URI.create("http://example.ca");
-        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), requestProcessorsArgumentCaptor.capture(),  anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), requestProcessorsArgumentCaptor.capture(),  anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
 
         createBuilder()
                 .build(TestClient.class, targetUri);
@@ -187,7 +195,7 @@ public class DefaultClientBuilderTest {
         assertThat(requestProcessors)
                 .isEmpty();
 
-        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), same(requestProcessors),  anyList(), isNull(), isNull(), eq(TestClient.class), same(targetUri));
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), same(requestProcessors),  anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri));
         verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
     }
 
@@ -195,7 +203,7 @@ public class DefaultClientBuilderTest {
     public void registerResponseInterceptor(){
         URI targetUri = URI.create("http://example.ca");
         ResponseProcessor responseProcessor = clientResponse -> {System.out.println(clientResponse); return clientResponse;};
-        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), responseProcessorsArgumentCaptor.capture(), isNull(), isNull(), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), responseProcessorsArgumentCaptor.capture(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
 
         createBuilder()
                 .responseProcessor(responseProcessor)
@@ -206,7 +214,7 @@ public class DefaultClientBuilderTest {
                 .hasSize(1)
                 .containsExactly(responseProcessor);
 
-        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), same(responseProcessors), isNull(), isNull(), eq(TestClient.class), same(targetUri));
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), same(responseProcessors), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri));
         verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
     }
 
@@ -216,7 +224,7 @@ public class DefaultClientBuilderTest {
         ResponseProcessor responseProcessor1 = clientResponse -> clientResponse;
         ResponseProcessor responseProcessor2 = clientResponse -> clientResponse;
         ResponseProcessor responseProcessor3 = clientResponse -> clientResponse;
-        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), responseProcessorsArgumentCaptor.capture(), isNull(), isNull(), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), responseProcessorsArgumentCaptor.capture(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
 
         createBuilder()
                 .responseProcessor(responseProcessor1)
@@ -231,14 +239,14 @@ public class DefaultClientBuilderTest {
                 .hasSize(3)
                 .containsExactly(responseProcessor1, responseProcessor2, responseProcessor3);
 
-        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), same(responseProcessors), isNull(), isNull(), eq(TestClient.class), same(targetUri));
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), same(responseProcessors), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri));
         verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
     }
 
     @Test
     public void notRegisterAnyResponseInterceptor(){
         URI targetUri = URI.create("http://example.ca");
-        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), responseProcessorsArgumentCaptor.capture(), isNull(), isNull(), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), responseProcessorsArgumentCaptor.capture(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
 
         createBuilder()
                 .build(TestClient.class, targetUri);
@@ -247,20 +255,20 @@ public class DefaultClientBuilderTest {
         assertThat(responseProcessors)
                 .isEmpty();
 
-        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), same(responseProcessors), isNull(), isNull(), eq(TestClient.class), same(targetUri));
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), same(responseProcessors), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri));
         verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
     }
 
     @Test
     public void logLevel(){
         URI targetUri = URI.create("http://example.ca");
-        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), same(LogLevel.HEADERS), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), same(LogLevel.HEADERS), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
 
         createBuilder()
                 .logLevel(LogLevel.HEADERS)
                 .build(TestClient.class, targetUri);
 
-        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), same(LogLevel.HEADERS), eq(TestClient.class), same(targetUri));
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), same(LogLevel.HEADERS), any(ClientOptions.class), eq(TestClient.class), same(targetUri));
         verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
     }
 
@@ -268,13 +276,206 @@ public class DefaultClientBuilderTest {
     public void logger(){
         Logger logger = new DummyLogger();
         URI targetUri = URI.create("http://example.ca");
-        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), same(logger), isNull(), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), same(logger), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
 
         createBuilder()
                 .logger(logger)
                 .build(TestClient.class, targetUri);
 
-        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), same(logger), isNull(), eq(TestClient.class), same(targetUri));
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), same(logger), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri));
+        verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
+    }
+
+    @Test
+    public void rateLimiter(){
+        RateLimiter rateLimiter = RateLimiters.tokenBucket(10, 1, Duration.ZERO);
+        URI targetUri = URI.create("http://example.ca");
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+
+        createBuilder()
+                .rateLimiter(rateLimiter)
+                .build(TestClient.class, targetUri);
+
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), optionsArgumentCaptor.capture(), eq(TestClient.class), same(targetUri));
+        assertThat(optionsArgumentCaptor.getValue().getRateLimiter())
+                .isSameAs(rateLimiter);
+        verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
+    }
+
+    @Test
+    public void loadShedding(){
+        LoadShedding loadShedding = LoadShedding.coDel(Duration.ofMillis(5), Duration.ofMillis(100));
+        URI targetUri = URI.create("http://example.ca");
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+
+        createBuilder()
+                .loadShedding(loadShedding)
+                .build(TestClient.class, targetUri);
+
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), optionsArgumentCaptor.capture(), eq(TestClient.class), same(targetUri));
+        assertThat(optionsArgumentCaptor.getValue().getLoadShedding())
+                .isSameAs(loadShedding);
+        verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
+    }
+
+    @Test
+    public void metrics(){
+        ClientMetrics clientMetrics = ClientMetrics.create();
+        URI targetUri = URI.create("http://example.ca");
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+
+        createBuilder()
+                .metrics(clientMetrics)
+                .build(TestClient.class, targetUri);
+
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), optionsArgumentCaptor.capture(), eq(TestClient.class), same(targetUri));
+        assertThat(optionsArgumentCaptor.getValue().getClientMetrics())
+                .isSameAs(clientMetrics);
+        verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
+    }
+
+    @Test
+    public void exchangeTimingListener(){
+        ClientMetrics clientMetrics = ClientMetrics.create();
+        URI targetUri = URI.create("http://example.ca");
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+
+        createBuilder()
+                .exchangeTimingListener(clientMetrics)
+                .build(TestClient.class, targetUri);
+
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), optionsArgumentCaptor.capture(), eq(TestClient.class), same(targetUri));
+        assertThat(optionsArgumentCaptor.getValue().getExchangeTimingListener())
+                .isSameAs(clientMetrics);
+        verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
+    }
+
+    @Test
+    public void tracer(){
+        Tracer tracer = mock(Tracer.class);
+        URI targetUri = URI.create("http://example.ca");
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+
+        createBuilder()
+                .tracer(tracer)
+                .build(TestClient.class, targetUri);
+
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), optionsArgumentCaptor.capture(), eq(TestClient.class), same(targetUri));
+        assertThat(optionsArgumentCaptor.getValue().getTracer())
+                .isSameAs(tracer);
+        verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
+    }
+
+    @Test
+    public void accessLog(){
+        AccessLog accessLog = AccessLog.create(new DummyLogger(), 16);
+        URI targetUri = URI.create("http://example.ca");
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+
+        createBuilder()
+                .accessLog(accessLog)
+                .build(TestClient.class, targetUri);
+
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), optionsArgumentCaptor.capture(), eq(TestClient.class), same(targetUri));
+        assertThat(optionsArgumentCaptor.getValue().getAccessLog())
+                .isSameAs(accessLog);
+        verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
+        accessLog.close();
+    }
+
+    @Test
+    public void logSampling(){
+        LogSampling logSampling = LogSampling.of(100, Duration.ofSeconds(1), 1000);
+        URI targetUri = URI.create("http://example.ca");
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+
+        createBuilder()
+                .logSampling(logSampling)
+                .build(TestClient.class, targetUri);
+
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), optionsArgumentCaptor.capture(), eq(TestClient.class), same(targetUri));
+        assertThat(optionsArgumentCaptor.getValue().getLogSampling())
+                .isSameAs(logSampling);
+        verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
+    }
+
+    @Test
+    public void requestExecutorFactory(){
+        RequestExecutorFactory requestExecutorFactory = mock(RequestExecutorFactory.class);
+        URI targetUri = URI.create("http://example.ca");
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+
+        createBuilder()
+                .requestExecutorFactory(requestExecutorFactory)
+                .build(TestClient.class, targetUri);
+
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), optionsArgumentCaptor.capture(), eq(TestClient.class), same(targetUri));
+        assertThat(optionsArgumentCaptor.getValue().getRequestExecutorFactory())
+                .isSameAs(requestExecutorFactory);
+        verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
+    }
+
+    @Test
+    public void localHttpHandlers(){
+        LocalHttpHandlers localHttpHandlers = LocalHttpHandlers.create();
+        URI targetUri = URI.create("http://example.ca");
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+
+        createBuilder()
+                .localHttpHandlers(localHttpHandlers)
+                .build(TestClient.class, targetUri);
+
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), optionsArgumentCaptor.capture(), eq(TestClient.class), same(targetUri));
+        assertThat(optionsArgumentCaptor.getValue().getLocalHttpHandlers())
+                .isSameAs(localHttpHandlers);
+        verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
+    }
+
+    @Test
+    public void eventLoops(){
+        EventLoops eventLoops = EventLoops.create(2);
+        URI targetUri = URI.create("http://example.ca");
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+
+        createBuilder()
+                .eventLoops(eventLoops)
+                .build(TestClient.class, targetUri);
+
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), optionsArgumentCaptor.capture(), eq(TestClient.class), same(targetUri));
+        assertThat(optionsArgumentCaptor.getValue().getEventLoops())
+                .isSameAs(eventLoops);
+        verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
+    }
+
+    @Test
+    public void decodingOffload(){
+        DecodingOffload decodingOffload = DecodingOffload.of(Schedulers.immediate(), 1024);
+        URI targetUri = URI.create("http://example.ca");
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+
+        createBuilder()
+                .decodingOffload(decodingOffload)
+                .build(TestClient.class, targetUri);
+
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), optionsArgumentCaptor.capture(), eq(TestClient.class), same(targetUri));
+        assertThat(optionsArgumentCaptor.getValue().getDecodingOffload())
+                .isSameAs(decodingOffload);
+        verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
+    }
+
+    @Test
+    public void compression(){
+        Compression compression = Compression.gzip(1024);
+        URI targetUri = URI.create("http://example.ca");
+        when(reactiveInvocationHandlerFactory.build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), any(ClientOptions.class), eq(TestClient.class), same(targetUri))).thenReturn(new MockInvocationHandler());
+
+        createBuilder()
+                .compression(compression)
+                .build(TestClient.class, targetUri);
+
+        verify(reactiveInvocationHandlerFactory).build(any(ExtendedClientCodecConfigurer.class), anyList(), anyList(), isNull(), isNull(), optionsArgumentCaptor.capture(), eq(TestClient.class), same(targetUri));
+        assertThat(optionsArgumentCaptor.getValue().getCompression())
+                .isSameAs(compression);
         verifyNoMoreInteractions(reactiveInvocationHandlerFactory);
     }
 
@@ -0,0 +1,51 @@
+package com.webfluxclient;
+
+import org.junit.Test;
+import org.springframework.http.server.reactive.HttpHandler;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class LocalHttpHandlersTest {
+    private LocalHttpHandlers localHttpHandlers = LocalHttpHandlers.create();
+
+    @Test
+    public void lookup() {
+        LocalHttpHandlers.Registration registration = localHttpHandlers.register(URI.create("http://accounts.local:8080/api/"), mock(HttpHandler.class));
+
+        assertThat(registration.getContextPath()).isEqualTo("/api");
+        assertThat(localHttpHandlers.lookup(URI.create("http://accounts.local:8080/api"))).isSameAs(registration);
+        assertThat(localHttpHandlers.lookup(URI.create("http://ACCOUNTS.local:8080/api/accounts?limit=10"))).isSameAs(registration);
+        assertThat(localHttpHandlers.lookup(URI.create("http://accounts.local:8080/apis/accounts"))).isNull();
+        assertThat(localHttpHandlers.lookup(URI.create("http://accounts.local:8081/api/accounts"))).isNull();
+        assertThat(localHttpHandlers.lookup(URI.create("https://accounts.local:8080/api/accounts"))).isNull();
+    }
+
+    @Test
+    public void lookup_withDefaultPort() {
+        LocalHttpHandlers.Registration registration = localHttpHandlers.register(URI.create("https://accounts.local"), mock(HttpHandler.class));
+
+        assertThat(localHttpHandlers.lookup(URI.create("https://accounts.local:443/accounts"))).isSameAs(registration);
+        assertThat(localHttpHandlers.lookup(URI.create("http://accounts.local/accounts"))).isNull();
+    }
+
+    @Test
+    public void lookup_withLongestContextPath() {
+        LocalHttpHandlers.Registration root = localHttpHandlers.register(URI.create("http://accounts.local"), mock(HttpHandler.class));
+        LocalHttpHandlers.Registration api = localHttpHandlers.register(URI.create("http://accounts.local/api"), mock(HttpHandler.class));
+
+        assertThat(localHttpHandlers.lookup(URI.create("http://accounts.local/api/accounts"))).isSameAs(api);
+        assertThat(localHttpHandlers.lookup(URI.create("http://accounts.local/health"))).isSameAs(root);
+    }
+
+    @Test
+    public void dispose() {
+        LocalHttpHandlers.Registration registration = localHttpHandlers.register(URI.create("http://accounts.local"), mock(HttpHandler.class));
+        registration.dispose();
+
+        assertThat(registration.isDisposed()).isTrue();
+        assertThat(localHttpHandlers.lookup(URI.create("http://accounts.local/accounts"))).isNull();
+    }
+}
@@ -0,0 +1,43 @@
+package com.webfluxclient;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LogSamplingTest {
+
+    @Test
+    public void isSampled_everyExchange() {
+        LogSampling logSampling = LogSampling.of(1, null, 1000);
+
+        assertThat(logSampling.isSampled()).isTrue();
+    }
+
+    @Test
+    public void isSlow() {
+        LogSampling logSampling = LogSampling.of(100, Duration.ofMillis(500), 1000);
+
+        assertThat(logSampling.isSlow(TimeUnit.MILLISECONDS.toNanos(501))).isTrue();
+        assertThat(logSampling.isSlow(TimeUnit.MILLISECONDS.toNanos(500))).isFalse();
+    }
+
+    @Test
+    public void isSlow_withoutThreshold() {
+        LogSampling logSampling = LogSampling.of(100, null, 1000);
+
+        assertThat(logSampling.isSlow(Long.MAX_VALUE - 1)).isFalse();
+    }
+
+    @Test
+    public void tryAcquire_aboveMaxLinesPerSecond() {
+        LogSampling logSampling = LogSampling.of(1, null, 5);
+
+        assertThat(logSampling.tryAcquire(3)).isTrue();
+        assertThat(logSampling.tryAcquire(3)).isFalse();
+        assertThat(logSampling.tryAcquire(2)).isTrue();
+        assertThat(logSampling.getSuppressedCount()).isEqualTo(3);
+    }
+}
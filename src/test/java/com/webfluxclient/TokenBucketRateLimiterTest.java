@@ -0,0 +1,175 @@
+package com.webfluxclient;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TokenBucketRateLimiterTest {
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Mock
+    private ClientResponse clientResponse;
+
+    @Mock
+    private ClientResponse.Headers headers;
+
+    @Test
+    public void reserve_withinBurst() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 3, 0);
+        long now = System.nanoTime();
+
+        assertThat(rateLimiter.reserve(now)).isEqualTo(0);
+        assertThat(rateLimiter.reserve(now)).isEqualTo(0);
+        assertThat(rateLimiter.reserve(now)).isEqualTo(0);
+    }
+
+    @Test
+    public void reserve_delayedOverBurst() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, Long.MAX_VALUE);
+        long now = System.nanoTime();
+
+        assertThat(rateLimiter.reserve(now)).isEqualTo(0);
+        assertThat(rateLimiter.reserve(now)).isEqualTo(ONE_SECOND);
+        assertThat(rateLimiter.reserve(now)).isEqualTo(2 * ONE_SECOND);
+    }
+
+    @Test
+    public void reserve_rejectedOverMaxWait() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, 0);
+        long now = System.nanoTime();
+
+        assertThat(rateLimiter.reserve(now)).isEqualTo(0);
+        assertThat(rateLimiter.reserve(now)).isEqualTo(-ONE_SECOND);
+        assertThat(rateLimiter.reserve(now + ONE_SECOND)).isEqualTo(0);
+    }
+
+    @Test
+    public void acquire_rejected() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, 0);
+
+        StepVerifier.create(rateLimiter.acquire())
+                .verifyComplete();
+        StepVerifier.create(rateLimiter.acquire())
+                .verifyError(RateLimitExceededException.class);
+    }
+
+    @Test
+    public void acquire_cancelledReturnsSlot() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, Long.MAX_VALUE);
+
+        StepVerifier.create(rateLimiter.acquire())
+                .verifyComplete();
+        StepVerifier.create(rateLimiter.acquire())
+                .expectSubscription()
+                .thenCancel()
+                .verify();
+
+        assertThat(rateLimiter.reserve(System.nanoTime()))
+                .isBetween(1L, ONE_SECOND);
+    }
+
+    @Test
+    public void limit_reservesOnSubscription() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, 0);
+        mockHeaders(new HttpHeaders());
+
+        Mono<ClientResponse> limited = rateLimiter.limit(() -> Mono.just(clientResponse));
+        rateLimiter.limit(() -> Mono.just(clientResponse));
+
+        StepVerifier.create(limited)
+                .expectNext(clientResponse)
+                .verifyComplete();
+        StepVerifier.create(limited)
+                .verifyError(RateLimitExceededException.class);
+    }
+
+    @Test
+    public void onResponse_withRetryAfter() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(100, 1, 0);
+        mockHeaders(HttpHeaders.RETRY_AFTER, "30");
+
+        rateLimiter.onResponse(clientResponse);
+
+        StepVerifier.create(rateLimiter.acquire())
+                .verifyError(RateLimitExceededException.class);
+    }
+
+    @Test
+    public void onResponse_withRemainingQuota() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(100, 1, 0);
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.add(TokenBucketRateLimiter.RATE_LIMIT_REMAINING, "10");
+        httpHeaders.add(TokenBucketRateLimiter.RATE_LIMIT_RESET, "20");
+        mockHeaders(httpHeaders);
+
+        rateLimiter.onResponse(clientResponse);
+
+        assertThat(rateLimiter.getIntervalNanos())
+                .isEqualTo(2 * ONE_SECOND);
+    }
+
+    @Test
+    public void onResponse_withRemainingQuotaAfterReset() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(100, 1, Long.MAX_VALUE);
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.add(TokenBucketRateLimiter.RATE_LIMIT_REMAINING, "10");
+        httpHeaders.add(TokenBucketRateLimiter.RATE_LIMIT_RESET, "20");
+        mockHeaders(httpHeaders);
+
+        rateLimiter.onResponse(clientResponse);
+        rateLimiter.reserve(System.nanoTime() + 21 * ONE_SECOND);
+
+        assertThat(rateLimiter.getIntervalNanos())
+                .isEqualTo(ONE_SECOND / 100);
+    }
+
+    @Test
+    public void onResponse_withRemainingQuotaAboveConfiguredRate() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, 0);
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.add(TokenBucketRateLimiter.RATE_LIMIT_REMAINING, "1000");
+        httpHeaders.add(TokenBucketRateLimiter.RATE_LIMIT_RESET, "10");
+        mockHeaders(httpHeaders);
+
+        rateLimiter.onResponse(clientResponse);
+
+        assertThat(rateLimiter.getIntervalNanos())
+                .isEqualTo(ONE_SECOND);
+    }
+
+    @Test
+    public void onResponse_withExhaustedQuota() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(100, 5, 0);
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.add(TokenBucketRateLimiter.RATE_LIMIT_REMAINING, "0");
+        httpHeaders.add(TokenBucketRateLimiter.RATE_LIMIT_RESET, "60");
+        mockHeaders(httpHeaders);
+
+        rateLimiter.onResponse(clientResponse);
+
+        StepVerifier.create(rateLimiter.acquire())
+                .verifyError(RateLimitExceededException.class);
+    }
+
+    private void mockHeaders(String name, String value) {
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.add(name, value);
+        mockHeaders(httpHeaders);
+    }
+
+    private void mockHeaders(HttpHeaders httpHeaders) {
+        when(clientResponse.headers()).thenReturn(headers);
+        when(headers.asHttpHeaders()).thenReturn(httpHeaders);
+    }
+}
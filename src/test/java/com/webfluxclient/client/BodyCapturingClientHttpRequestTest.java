@@ -0,0 +1,73 @@
+package com.webfluxclient.client;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BodyCapturingClientHttpRequestTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private List<String> bodies = new ArrayList<>();
+
+    @Test
+    public void writeWith() {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://example.ca/accounts"));
+        ClientHttpRequest capturingRequest = BodyCapturingClientHttpRequest.of(request, bodyCapture -> bodies.add(bodyCapture.toString(null)));
+
+        StepVerifier.create(capturingRequest.writeWith(Mono.just(new DefaultDataBufferFactory().wrap("account".getBytes(StandardCharsets.UTF_8)))))
+                .verifyComplete();
+
+        assertThat(capturingRequest).isNotInstanceOf(ZeroCopyHttpOutputMessage.class);
+        assertThat(bodies).containsExactly("account");
+        StepVerifier.create(request.getBodyAsString())
+                .expectNext("account")
+                .verifyComplete();
+    }
+
+    @Test
+    public void writeWith_file() throws Exception {
+        File file = temporaryFolder.newFile("artifact");
+        ZeroCopyClientHttpRequest request = new ZeroCopyClientHttpRequest();
+        ClientHttpRequest capturingRequest = BodyCapturingClientHttpRequest.of(request, bodyCapture -> bodies.add(bodyCapture.toString(null)));
+
+        assertThat(capturingRequest).isInstanceOf(ZeroCopyHttpOutputMessage.class);
+        StepVerifier.create(((ZeroCopyHttpOutputMessage) capturingRequest).writeWith(file, 0, 12))
+                .verifyComplete();
+
+        assertThat(request.file).isEqualTo(file);
+        assertThat(request.count).isEqualTo(12);
+        assertThat(bodies).containsExactly("<file body 12 bytes>");
+    }
+
+    private static class ZeroCopyClientHttpRequest extends MockClientHttpRequest implements ZeroCopyHttpOutputMessage {
+        private File file;
+        private long count;
+
+        ZeroCopyClientHttpRequest() {
+            super(HttpMethod.PUT, URI.create("http://example.ca/artifacts/1"));
+        }
+
+        @Override
+        public Mono<Void> writeWith(File file, long position, long count) {
+            this.file = file;
+            this.count = count;
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.webfluxclient.client;
+
+import org.junit.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunctions;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BodyCapturingClientResponseTest {
+    private List<String> bodies = new ArrayList<>();
+
+    @Test
+    public void bodyToMono() {
+        ClientResponse clientResponse = new BodyCapturingClientResponse(clientResponse("{\"name\":\"account\"}"), bodyCapture -> bodies.add(bodyCapture.toString(MediaType.APPLICATION_JSON_UTF8)));
+
+        StepVerifier.create(clientResponse.bodyToMono(String.class))
+                .expectNext("{\"name\":\"account\"}")
+                .verifyComplete();
+
+        assertThat(bodies).containsExactly("{\"name\":\"account\"}");
+    }
+
+    @Test
+    public void bodyToMono_aboveLimit() {
+        char[] body = new char[BodyCapture.LIMIT + 10];
+        Arrays.fill(body, 'a');
+        ClientResponse clientResponse = new BodyCapturingClientResponse(clientResponse(new String(body)), bodyCapture -> bodies.add(bodyCapture.toString(null)));
+
+        StepVerifier.create(clientResponse.bodyToMono(String.class))
+                .expectNext(new String(body))
+                .verifyComplete();
+
+        assertThat(bodies).hasSize(1);
+        assertThat(bodies.get(0)).endsWith("a... (" + body.length + " bytes)");
+        assertThat(bodies.get(0)).hasSize(BodyCapture.LIMIT + ("... (" + body.length + " bytes)").length());
+    }
+
+    @Test
+    public void append_withoutConsumingTheBuffer() {
+        BodyCapture bodyCapture = new BodyCapture();
+        byte[] bytes = "account".getBytes(StandardCharsets.UTF_8);
+
+        bodyCapture.append(new DefaultDataBufferFactory().wrap(bytes));
+
+        assertThat(bodyCapture.toString(null)).isEqualTo("account");
+    }
+
+    private ClientResponse clientResponse(String body) {
+        return ExchangeFunctions
+                .create((method, uri, requestCallback) -> {
+                    MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+                    response.setBody(body);
+                    return Mono.just(response);
+                })
+                .exchange(ClientRequest.method(HttpMethod.GET, URI.create("http://example.ca/accounts")).build())
+                .block();
+    }
+}
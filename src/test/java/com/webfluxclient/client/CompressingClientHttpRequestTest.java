@@ -0,0 +1,148 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.Compression;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompressingClientHttpRequestTest {
+    private final DefaultDataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+
+    @Test
+    public void writeWith_belowThreshold() {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://example.ca/events"));
+        request.getHeaders().setContentLength(10);
+
+        StepVerifier.create(new CompressingClientHttpRequest(request, Compression.GZIP, 1024).writeWith(body("first", "second")))
+                .verifyComplete();
+        assertThat(request.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(request.getHeaders().getContentLength()).isEqualTo(10);
+        StepVerifier.create(request.getBodyAsString())
+                .expectNext("firstsecond")
+                .verifyComplete();
+    }
+
+    @Test
+    public void writeWith_overThresholdWithGzip() throws IOException {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://example.ca/events"));
+        request.getHeaders().setContentLength(17);
+
+        StepVerifier.create(new CompressingClientHttpRequest(request, Compression.GZIP, 8).writeWith(body("first", "second", "third")))
+                .verifyComplete();
+        assertThat(request.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo(Compression.GZIP);
+        assertThat(request.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH)).isFalse();
+        assertThat(read(new GZIPInputStream(new ByteArrayInputStream(bytes(request)))))
+                .isEqualTo("firstsecondthird");
+    }
+
+    @Test
+    public void writeWith_overThresholdWithDeflate() throws IOException {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://example.ca/events"));
+
+        StepVerifier.create(new CompressingClientHttpRequest(request, Compression.DEFLATE, 0).writeWith(body("first", "second")))
+                .verifyComplete();
+        assertThat(request.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo(Compression.DEFLATE);
+        assertThat(read(new InflaterInputStream(new ByteArrayInputStream(bytes(request)))))
+                .isEqualTo("firstsecond");
+    }
+
+    @Test
+    public void writeWith_alreadyEncoded() {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://example.ca/events"));
+        request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "br");
+
+        StepVerifier.create(new CompressingClientHttpRequest(request, Compression.GZIP, 0).writeWith(body("first", "second")))
+                .verifyComplete();
+        assertThat(request.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("br");
+        StepVerifier.create(request.getBodyAsString())
+                .expectNext("firstsecond")
+                .verifyComplete();
+    }
+
+    @Test
+    public void writeWith_withErrorBeforeThreshold() {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://example.ca/events"));
+
+        StepVerifier.create(new CompressingClientHttpRequest(request, Compression.GZIP, 1024).writeWith(body("first").concatWith(Flux.error(new IllegalStateException()))))
+                .verifyError(IllegalStateException.class);
+        assertThat(request.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    }
+
+    @Test
+    public void writeWith_cancelledBeforeThreshold() {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://example.ca/events"));
+        NettyDataBuffer dataBuffer = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT).wrap(Unpooled.copiedBuffer("first", StandardCharsets.UTF_8));
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        StepVerifier.create(new CompressingClientHttpRequest(request, Compression.GZIP, 1024).writeWith(Flux.<DataBuffer>just(dataBuffer).concatWith(Flux.never()).doOnCancel(() -> cancelled.set(true))))
+                .thenCancel()
+                .verify();
+        assertThat(cancelled).isTrue();
+        assertThat(dataBuffer.getNativeBuffer().refCnt()).isZero();
+    }
+
+    @Test
+    public void writeWith_cancelledBeforeWritingTheHead() {
+        ClientHttpRequest request = new ClientHttpRequestDecorator(new MockClientHttpRequest(HttpMethod.POST, URI.create("http://example.ca/events"))) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return Mono.never();
+            }
+        };
+        NettyDataBuffer dataBuffer = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT).wrap(Unpooled.copiedBuffer("first", StandardCharsets.UTF_8));
+
+        StepVerifier.create(new CompressingClientHttpRequest(request, Compression.GZIP, 1).writeWith(Flux.<DataBuffer>just(dataBuffer).concatWith(Flux.never())))
+                .thenCancel()
+                .verify();
+        assertThat(dataBuffer.getNativeBuffer().refCnt()).isZero();
+    }
+
+    private Flux<DataBuffer> body(String... chunks) {
+        return Flux.fromArray(chunks).map(chunk -> dataBufferFactory.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] bytes(MockClientHttpRequest request) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        request.getBody().toIterable().forEach(dataBuffer -> {
+            byte[] chunk = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(chunk);
+            bytes.write(chunk, 0, chunk.length);
+        });
+        return bytes.toByteArray();
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] chunk = new byte[256];
+        int read;
+        while ((read = inputStream.read(chunk)) != -1) {
+            bytes.write(chunk, 0, read);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
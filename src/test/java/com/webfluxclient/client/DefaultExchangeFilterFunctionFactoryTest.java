@@ -0,0 +1,74 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.ClientOptions;
+import com.webfluxclient.Compression;
+import com.webfluxclient.LogLevel;
+import com.webfluxclient.Logger;
+import com.webfluxclient.metadata.MethodMetadata;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunctions;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DefaultExchangeFilterFunctionFactoryTest {
+    private List<String> lines = new CopyOnWriteArrayList<>();
+    private Logger logger = new Logger() {
+        @Override
+        public void log(Supplier<String> messageSupplier) {
+            lines.add(messageSupplier.get());
+        }
+
+        @Override
+        public void log(String message) {
+            lines.add(message);
+        }
+    };
+
+    @Test
+    public void build_logsTheBodyBeforeCompression() {
+        AtomicReference<MockClientHttpRequest> sentRequest = new AtomicReference<>();
+        ExchangeFunction exchangeFunction = ExchangeFunctions.create((method, uri, requestCallback) -> {
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            sentRequest.set(request);
+            return requestCallback
+                    .apply(request)
+                    .then(Mono.just(new MockClientHttpResponse(HttpStatus.OK)));
+        });
+        ClientRequest clientRequest = ClientRequest.method(HttpMethod.POST, URI.create("http://example.ca/events"))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE)
+                .attribute(MethodMetadata.METHOD_METADATA_ATTRIBUTE, MethodMetadata.newBuilder(URI.create("http://example.ca")).compressionThreshold(0L).build())
+                .body(BodyInserters.fromObject("first event"))
+                .build();
+        ExchangeFilterFunction exchangeFilterFunction = new DefaultExchangeFilterFunctionFactory().build(
+                emptyList(),
+                emptyList(),
+                logger,
+                LogLevel.BODY,
+                ClientOptions.newBuilder().compression(Compression.gzip(0)).build());
+
+        StepVerifier.create(exchangeFilterFunction.filter(clientRequest, exchangeFunction).then())
+                .verifyComplete();
+
+        assertThat(sentRequest.get().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo(Compression.GZIP);
+        assertThat(lines).contains("--> BODY POST\nfirst event");
+    }
+}
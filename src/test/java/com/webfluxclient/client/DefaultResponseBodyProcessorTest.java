@@ -0,0 +1,63 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.ClientOptions;
+import com.webfluxclient.codec.ExtendedClientCodecConfigurer;
+import com.webfluxclient.codec.HttpClientException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+public class DefaultResponseBodyProcessorTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private DefaultDataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+    private RouterFunction<ServerResponse> routerFunction = route(
+            GET("/artifacts/1"),
+            serverRequest -> ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .body(Flux.just("first,", "second,", "third").map(chunk -> (DataBuffer) dataBufferFactory.wrap(chunk.getBytes(StandardCharsets.UTF_8))), DataBuffer.class));
+
+    private ExtendedClientCodecConfigurer codecConfigurer = ExtendedClientCodecConfigurer.create();
+    private RequestExecutor requestExecutor = LoopbackRequestExecutorFactory.of(routerFunction)
+            .build(codecConfigurer, null, ClientOptions.empty(), URI.create("http://example.ca"));
+    private DefaultResponseBodyProcessor responseBodyProcessor = new DefaultResponseBodyProcessor(codecConfigurer.getErrorReaders());
+
+    @Test
+    public void download() throws Exception {
+        Path destination = temporaryFolder.getRoot().toPath().resolve("artifact");
+        Files.write(destination, "a longer previous content".getBytes(StandardCharsets.UTF_8));
+
+        StepVerifier.create(responseBodyProcessor.download(requestExecutor.execute(new MockRequest("http://example.ca/artifacts/1", HttpMethod.GET)), destination))
+                .expectNext(destination)
+                .verifyComplete();
+        assertThat(new String(Files.readAllBytes(destination), StandardCharsets.UTF_8))
+                .isEqualTo("first,second,third");
+    }
+
+    @Test
+    public void download_withErrorStatus() {
+        Path destination = temporaryFolder.getRoot().toPath().resolve("missing");
+
+        StepVerifier.create(responseBodyProcessor.download(requestExecutor.execute(new MockRequest("http://example.ca/artifacts/2", HttpMethod.GET)), destination))
+                .verifyError(HttpClientException.class);
+        assertThat(destination).doesNotExist();
+    }
+}
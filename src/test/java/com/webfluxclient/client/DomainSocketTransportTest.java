@@ -0,0 +1,64 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.ClientBuilder;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.unix.DomainSocketAddress;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import reactor.core.publisher.Mono;
+import reactor.ipc.netty.NettyContext;
+import reactor.ipc.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.Assume.assumeTrue;
+
+public class DomainSocketTransportTest {
+    private File socket;
+    private NettyContext server;
+
+    @Before
+    public void setUp() throws IOException {
+        assumeTrue(Epoll.isAvailable());
+        socket = File.createTempFile("webfluxclient", ".sock");
+        socket.delete();
+        server = HttpServer
+                .create(options -> options
+                        .listenAddress(new DomainSocketAddress(socket))
+                        .loopResources(DomainSocketLoopResources.get()))
+                .newRouter(routes -> routes.get("/accounts/{id}", (request, response) -> response
+                        .sendString(Mono.just(request.param("id") + "@" + request.requestHeaders().get("Host")))))
+                .block(Duration.ofSeconds(5));
+    }
+
+    @After
+    public void tearDown() {
+        if (server != null) {
+            server.dispose();
+        }
+        if (socket != null) {
+            socket.delete();
+        }
+    }
+
+    @Test
+    public void getAccount() {
+        SidecarClient client = ClientBuilder.builder().build(SidecarClient.class, URI.create("unix://" + socket.getAbsolutePath()));
+
+        StepVerifier.create(client.getAccount("42"))
+                .expectNext("42@localhost")
+                .verifyComplete();
+    }
+
+    interface SidecarClient {
+        @GetMapping("/accounts/{id}")
+        Mono<String> getAccount(@PathVariable("id") String id);
+    }
+}
@@ -0,0 +1,215 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.AccessLog;
+import com.webfluxclient.Compression;
+import com.webfluxclient.LogLevel;
+import com.webfluxclient.LogSampling;
+import com.webfluxclient.Logger;
+import com.webfluxclient.Tracer;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ExchangeFilterFunctionsTest {
+    @Mock
+    private ExchangeFunction exchangeFunction;
+
+    @Mock
+    private ClientResponse clientResponse;
+
+    @Mock
+    private Logger logger;
+
+    @Mock
+    private Tracer tracer;
+
+    @Mock
+    private Tracer.Span span;
+
+    @Mock
+    private AccessLog accessLog;
+
+    private ClientRequest clientRequest = ClientRequest.method(HttpMethod.GET, URI.create("http://example.ca/accounts")).build();
+
+    @Test
+    public void tracingFilter_notSampled() {
+        when(tracer.isSampled(clientRequest)).thenReturn(false);
+        when(exchangeFunction.exchange(same(clientRequest))).thenReturn(Mono.just(clientResponse));
+
+        StepVerifier.create(ExchangeFilterFunctions.tracingFilter(tracer).filter(clientRequest, exchangeFunction))
+                .expectNext(clientResponse)
+                .verifyComplete();
+
+        verify(tracer, never()).startSpan(any(ClientRequest.class));
+    }
+
+    @Test
+    public void tracingFilter_sampled() {
+        when(tracer.isSampled(clientRequest)).thenReturn(true);
+        when(tracer.startSpan(clientRequest)).thenReturn(span);
+        doAnswer(invocation -> {
+            invocation.<HttpHeaders>getArgument(0).set("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+            return null;
+        }).when(span).inject(any(HttpHeaders.class));
+        ArgumentCaptor<ClientRequest> tracedRequest = ArgumentCaptor.forClass(ClientRequest.class);
+        when(exchangeFunction.exchange(tracedRequest.capture())).thenReturn(Mono.just(clientResponse));
+
+        StepVerifier.create(ExchangeFilterFunctions.tracingFilter(tracer).filter(clientRequest, exchangeFunction))
+                .expectNext(clientResponse)
+                .verifyComplete();
+
+        assertThat(tracedRequest.getValue().headers().getFirst("traceparent"))
+                .isEqualTo("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+        verify(span).end(same(clientResponse), isNull(), anyLong());
+    }
+
+    @Test
+    public void tracingFilter_sampledWithError() {
+        IOException exception = new IOException();
+        when(tracer.isSampled(clientRequest)).thenReturn(true);
+        when(tracer.startSpan(clientRequest)).thenReturn(span);
+        when(exchangeFunction.exchange(any(ClientRequest.class))).thenReturn(Mono.error(exception));
+
+        StepVerifier.create(ExchangeFilterFunctions.tracingFilter(tracer).filter(clientRequest, exchangeFunction))
+                .verifyError(IOException.class);
+
+        verify(span).end(isNull(), same(exception), anyLong());
+    }
+
+    @Test
+    public void loggingFilter_notSampled() {
+        LogSampling logSampling = LogSampling.of(Integer.MAX_VALUE, Duration.ofHours(1), 1000);
+        when(exchangeFunction.exchange(same(clientRequest))).thenReturn(Mono.just(clientResponse));
+        when(clientResponse.statusCode()).thenReturn(HttpStatus.OK);
+
+        StepVerifier.create(ExchangeFilterFunctions.loggingFilter(logger, LogLevel.HEADERS, logSampling).filter(clientRequest, exchangeFunction))
+                .expectNext(clientResponse)
+                .verifyComplete();
+
+        verify(logger, never()).log(anyString());
+        verify(logger, never()).log(any(Supplier.class));
+    }
+
+    @Test
+    public void loggingFilter_notSampledButSlow() {
+        LogSampling logSampling = LogSampling.of(Integer.MAX_VALUE, Duration.ZERO, 1000);
+        when(exchangeFunction.exchange(same(clientRequest))).thenReturn(Mono.just(clientResponse).delayElement(Duration.ofMillis(1)));
+        when(clientResponse.statusCode()).thenReturn(HttpStatus.OK);
+
+        StepVerifier.create(ExchangeFilterFunctions.loggingFilter(logger, LogLevel.BASIC, logSampling).filter(clientRequest, exchangeFunction))
+                .expectNext(clientResponse)
+                .verifyComplete();
+
+        ArgumentCaptor<String> line = ArgumentCaptor.forClass(String.class);
+        verify(logger).log(line.capture());
+        assertThat(line.getValue()).startsWith("<-- 200 OK GET http://example.ca/accounts");
+    }
+
+    @Test
+    public void loggingFilter_notSampledWithError() {
+        LogSampling logSampling = LogSampling.of(Integer.MAX_VALUE, null, 1000);
+        when(exchangeFunction.exchange(same(clientRequest))).thenReturn(Mono.error(new IOException()));
+
+        StepVerifier.create(ExchangeFilterFunctions.loggingFilter(logger, LogLevel.BASIC, logSampling).filter(clientRequest, exchangeFunction))
+                .verifyError(IOException.class);
+
+        verify(logger).log(any(Supplier.class));
+    }
+
+    @Test
+    public void loggingFilter_notSampledWithErrorStatus() {
+        LogSampling logSampling = LogSampling.of(Integer.MAX_VALUE, null, 1000);
+        when(exchangeFunction.exchange(same(clientRequest))).thenReturn(Mono.just(clientResponse));
+        when(clientResponse.statusCode()).thenReturn(HttpStatus.SERVICE_UNAVAILABLE);
+
+        StepVerifier.create(ExchangeFilterFunctions.loggingFilter(logger, LogLevel.BASIC, logSampling).filter(clientRequest, exchangeFunction))
+                .expectNext(clientResponse)
+                .verifyComplete();
+
+        ArgumentCaptor<String> line = ArgumentCaptor.forClass(String.class);
+        verify(logger).log(line.capture());
+        assertThat(line.getValue()).startsWith("<-- 503 SERVICE_UNAVAILABLE GET http://example.ca/accounts");
+    }
+
+    @Test
+    public void accessLogFilter_notSampled() {
+        LogSampling logSampling = LogSampling.of(Integer.MAX_VALUE, null, 1000);
+        when(exchangeFunction.exchange(same(clientRequest))).thenReturn(Mono.just(clientResponse));
+        when(clientResponse.statusCode()).thenReturn(HttpStatus.OK);
+
+        StepVerifier.create(ExchangeFilterFunctions.accessLogFilter(accessLog, logSampling).filter(clientRequest, exchangeFunction))
+                .expectNext(clientResponse)
+                .verifyComplete();
+
+        verify(accessLog, never()).append(anyLong(), any(), any(), any(), anyInt(), any(), anyLong());
+    }
+
+    @Test
+    public void accessLogFilter_notSampledWithErrorStatus() {
+        LogSampling logSampling = LogSampling.of(Integer.MAX_VALUE, null, 1000);
+        when(exchangeFunction.exchange(same(clientRequest))).thenReturn(Mono.just(clientResponse));
+        when(clientResponse.statusCode()).thenReturn(HttpStatus.NOT_FOUND);
+
+        StepVerifier.create(ExchangeFilterFunctions.accessLogFilter(accessLog, logSampling).filter(clientRequest, exchangeFunction))
+                .expectNext(clientResponse)
+                .verifyComplete();
+
+        verify(accessLog).append(anyLong(), same(HttpMethod.GET), eq(clientRequest.url()), isNull(), eq(404), isNull(), anyLong());
+    }
+
+    @Test
+    public void compressionFilter_acceptsCompressedResponses() {
+        ArgumentCaptor<ClientRequest> compressedRequest = ArgumentCaptor.forClass(ClientRequest.class);
+        when(exchangeFunction.exchange(compressedRequest.capture())).thenReturn(Mono.just(clientResponse));
+
+        StepVerifier.create(ExchangeFilterFunctions.compressionFilter(Compression.gzip(1024)).filter(clientRequest, exchangeFunction))
+                .expectNext(clientResponse)
+                .verifyComplete();
+
+        assertThat(compressedRequest.getValue().headers().getFirst(HttpHeaders.ACCEPT_ENCODING))
+                .isEqualTo("gzip, deflate");
+    }
+
+    @Test
+    public void compressionFilter_keepsAcceptEncoding() {
+        ClientRequest identityRequest = ClientRequest.from(clientRequest).header(HttpHeaders.ACCEPT_ENCODING, "identity").build();
+        ArgumentCaptor<ClientRequest> compressedRequest = ArgumentCaptor.forClass(ClientRequest.class);
+        when(exchangeFunction.exchange(compressedRequest.capture())).thenReturn(Mono.just(clientResponse));
+
+        StepVerifier.create(ExchangeFilterFunctions.compressionFilter(Compression.gzip(1024)).filter(identityRequest, exchangeFunction))
+                .expectNext(clientResponse)
+                .verifyComplete();
+
+        assertThat(compressedRequest.getValue().headers().getFirst(HttpHeaders.ACCEPT_ENCODING))
+                .isEqualTo("identity");
+    }
+}
@@ -0,0 +1,111 @@
+package com.webfluxclient.client;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunctions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FlightRecorderExchangeFilterFunctionTest {
+    @Mock
+    private ExchangeFunction exchangeFunction;
+
+    @Test
+    public void filter() throws Exception {
+        ClientRequest clientRequest = ClientRequest.method(HttpMethod.POST, URI.create("http://example.ca/accounts"))
+                .body(BodyInserters.fromPublisher(Flux.just("{\"name\"", ":\"new\"}"), String.class))
+                .build();
+
+        List<RecordedEvent> events = record(() -> new FlightRecorderExchangeFilterFunction()
+                .filter(clientRequest, exchangeFunction("{\"name\":\"account\"}"))
+                .flatMap(clientResponse -> clientResponse.bodyToMono(String.class))
+                .block());
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("httpMethod")).isEqualTo("POST");
+        assertThat(event.getString("uri")).isEqualTo("http://example.ca/accounts");
+        assertThat(event.getInt("status")).isEqualTo(200);
+        assertThat(event.getLong("requestBytes")).isEqualTo(14);
+        assertThat(event.getLong("responseBytes")).isEqualTo(18);
+    }
+
+    @Test
+    public void filter_withVoidResponse() throws Exception {
+        ClientRequest clientRequest = ClientRequest.method(HttpMethod.GET, URI.create("http://example.ca/accounts")).build();
+
+        List<RecordedEvent> events = record(() -> ((Mono<?>) new DefaultResponseBodyProcessor(Collections.emptyList()).process(
+                new FlightRecorderExchangeFilterFunction().filter(clientRequest, exchangeFunction("{\"name\":\"account\"}")),
+                ResolvableType.forClassWithGenerics(Mono.class, Void.class),
+                null))
+                .block());
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getInt("status")).isEqualTo(200);
+    }
+
+    @Test
+    public void filter_withError() throws Exception {
+        when(exchangeFunction.exchange(any(ClientRequest.class))).thenReturn(Mono.error(new IllegalStateException("connection refused")));
+        ClientRequest clientRequest = ClientRequest.method(HttpMethod.GET, URI.create("http://example.ca/accounts")).build();
+
+        List<RecordedEvent> events = record(() -> new FlightRecorderExchangeFilterFunction().filter(clientRequest, exchangeFunction).onErrorResume(throwable -> Mono.empty()).block());
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("error")).contains("connection refused");
+    }
+
+    private static ExchangeFunction exchangeFunction(String responseBody) {
+        return ExchangeFunctions.create((method, uri, requestCallback) -> {
+            MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+            response.setBody(responseBody);
+            return requestCallback
+                    .apply(new MockClientHttpRequest(method, uri))
+                    .then(Mono.just(response));
+        });
+    }
+
+    private List<RecordedEvent> record(Runnable exchange) throws Exception {
+        Path recordingPath = Files.createTempFile("http-exchange", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(HttpExchangeEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            exchange.run();
+            recording.stop();
+            recording.dump(recordingPath);
+            return RecordingFile.readAllEvents(recordingPath)
+                    .stream()
+                    .filter(event -> HttpExchangeEvent.NAME.equals(event.getEventType().getName()))
+                    .collect(Collectors.toList());
+        }
+        finally {
+            Files.deleteIfExists(recordingPath);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.webfluxclient.client;
+
+import org.junit.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import org.springframework.web.reactive.function.BodyExtractor;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JsonStreamingBodyExtractorTest {
+    private static final BodyExtractor.Context CONTEXT = new BodyExtractor.Context() {
+        @Override
+        public List<HttpMessageReader<?>> messageReaders() {
+            return ExchangeStrategies.withDefaults().messageReaders();
+        }
+
+        @Override
+        public Optional<ServerHttpResponse> serverResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<String, Object> hints() {
+            return Collections.emptyMap();
+        }
+    };
+
+    @Test
+    public void extract_withArraySplitAcrossBuffers() {
+        MockClientHttpResponse response = response(MediaType.APPLICATION_JSON, "[{\"name\":\"fi", "rst\"},{\"na", "me\":\"second\"}", ",{\"name\":\"third\"}]");
+
+        StepVerifier.create(new JsonStreamingBodyExtractor<Account>(ResolvableType.forClass(Account.class)).extract(response, CONTEXT))
+                .expectNextMatches(account -> account.name.equals("first"))
+                .expectNextMatches(account -> account.name.equals("second"))
+                .expectNextMatches(account -> account.name.equals("third"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void extract_emitsElementsBeforeTheEndOfTheBody() {
+        AtomicInteger buffersRead = new AtomicInteger();
+        MockClientHttpResponse response = response(MediaType.APPLICATION_JSON, "[{\"name\":\"first\"},", "{\"name\":\"second\"},", "{\"name\":\"third\"}]");
+        response.setBody(response.getBody().doOnNext(dataBuffer -> buffersRead.incrementAndGet()));
+
+        StepVerifier.create(new JsonStreamingBodyExtractor<Account>(ResolvableType.forClass(Account.class)).extract(response, CONTEXT), 1)
+                .expectNextMatches(account -> account.name.equals("first") && buffersRead.get() < 3)
+                .thenRequest(1)
+                .expectNextMatches(account -> account.name.equals("second"))
+                .thenRequest(1)
+                .expectNextMatches(account -> account.name.equals("third"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void extract_withJsonStream() {
+        MockClientHttpResponse response = response(MediaType.APPLICATION_STREAM_JSON, "{\"name\":\"first\"}\n{\"na", "me\":\"second\"}\n");
+
+        StepVerifier.create(new JsonStreamingBodyExtractor<Account>(ResolvableType.forClass(Account.class)).extract(response, CONTEXT))
+                .expectNextMatches(account -> account.name.equals("first"))
+                .expectNextMatches(account -> account.name.equals("second"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void extract_withScalarElements() {
+        MockClientHttpResponse response = response(MediaType.APPLICATION_JSON, "[1,2", "3,4]");
+
+        StepVerifier.create(new JsonStreamingBodyExtractor<Integer>(ResolvableType.forClass(Integer.class)).extract(response, CONTEXT))
+                .expectNext(1, 23, 4)
+                .verifyComplete();
+    }
+
+    @Test
+    public void extract_withTruncatedBody() {
+        MockClientHttpResponse response = response(MediaType.APPLICATION_JSON, "[{\"name\":\"first\"},{\"name\":");
+
+        StepVerifier.create(new JsonStreamingBodyExtractor<Account>(ResolvableType.forClass(Account.class)).extract(response, CONTEXT))
+                .expectNextMatches(account -> account.name.equals("first"))
+                .verifyError(DecodingException.class);
+    }
+
+    @Test
+    public void extract_withoutJsonContentType() {
+        MockClientHttpResponse response = response(MediaType.TEXT_PLAIN, "first", "second");
+
+        StepVerifier.create(new JsonStreamingBodyExtractor<String>(ResolvableType.forClass(String.class)).extract(response, CONTEXT).reduce(String::concat))
+                .expectNext("firstsecond")
+                .verifyComplete();
+    }
+
+    @Test
+    public void extract_withDataBufferElements() {
+        MockClientHttpResponse response = response(MediaType.APPLICATION_JSON, "[{\"name\":", "\"first\"}]");
+
+        StepVerifier.create(new JsonStreamingBodyExtractor<DataBuffer>(ResolvableType.forClass(DataBuffer.class)).extract(response, CONTEXT)
+                        .map(dataBuffer -> {
+                            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                            dataBuffer.read(bytes);
+                            return new String(bytes, StandardCharsets.UTF_8);
+                        })
+                        .reduce(String::concat))
+                .expectNext("[{\"name\":\"first\"}]")
+                .verifyComplete();
+    }
+
+    private static MockClientHttpResponse response(MediaType contentType, String... chunks) {
+        DefaultDataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+        MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+        response.getHeaders().setContentType(contentType);
+        response.setBody(Flux.fromArray(chunks).map(chunk -> (DataBuffer) dataBufferFactory.wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        return response;
+    }
+
+    static class Account {
+        public String name;
+    }
+}
@@ -0,0 +1,48 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.LocalHttpHandlers;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFunctions;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+public class LocalClientHttpConnectorTest {
+    private LocalHttpHandlers localHttpHandlers = LocalHttpHandlers.create();
+    private ClientHttpConnector network = (method, uri, requestCallback) -> Mono.fromSupplier(() -> {
+        MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+        response.setBody("network");
+        return response;
+    });
+    private ClientHttpConnector connector = new LocalClientHttpConnector(localHttpHandlers, network);
+
+    @Test
+    public void connect() {
+        localHttpHandlers.register(URI.create("http://accounts.local/api"), RouterFunctions.toHttpHandler(
+                route(RequestPredicates.all(), serverRequest -> ServerResponse.ok().syncBody("local " + serverRequest.path()))));
+
+        StepVerifier.create(exchange("http://accounts.local/api/accounts"))
+                .expectNext("local /api/accounts")
+                .verifyComplete();
+        StepVerifier.create(exchange("http://transactions.local/api/accounts"))
+                .expectNext("network")
+                .verifyComplete();
+    }
+
+    private Mono<String> exchange(String uri) {
+        return ExchangeFunctions.create(connector)
+                .exchange(ClientRequest.method(HttpMethod.GET, URI.create(uri)).build())
+                .flatMap(clientResponse -> clientResponse.bodyToMono(String.class));
+    }
+}
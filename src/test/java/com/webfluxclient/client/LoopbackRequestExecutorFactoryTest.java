@@ -0,0 +1,100 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.ClientOptions;
+import com.webfluxclient.codec.ExtendedClientCodecConfigurer;
+import com.webfluxclient.metadata.request.Request;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+public class LoopbackRequestExecutorFactoryTest {
+    private RouterFunction<ServerResponse> routerFunction = route(
+            GET("/accounts/{accountId}"),
+            serverRequest -> ServerResponse.ok()
+                    .header("X-Request-Id", serverRequest.headers().header("X-Request-Id").get(0))
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .syncBody(serverRequest.pathVariable("accountId") + "-" + serverRequest.queryParam("fields").orElse("")))
+            .andRoute(
+                    POST("/accounts"),
+                    serverRequest -> ServerResponse.status(HttpStatus.CREATED)
+                            .contentType(MediaType.TEXT_PLAIN)
+                            .body(serverRequest.bodyToMono(String.class), String.class))
+            .andRoute(
+                    GET("/empty"),
+                    serverRequest -> ServerResponse.noContent().build());
+
+    private RequestExecutor requestExecutor = LoopbackRequestExecutorFactory.of(routerFunction)
+            .build(ExtendedClientCodecConfigurer.create(), null, ClientOptions.empty(), URI.create("http://example.ca"));
+
+    @Test
+    public void execute() {
+        Request request = new MockRequest("http://example.ca/accounts/42?fields=balance", HttpMethod.GET);
+        request.headers().add("X-Request-Id", "request-1");
+
+        StepVerifier.create(requestExecutor.execute(request)
+                        .flatMap(clientResponse -> {
+                            HttpHeaders headers = clientResponse.headers().asHttpHeaders();
+                            return clientResponse.bodyToMono(String.class).map(body -> clientResponse.statusCode().value() + " " + headers.getFirst("X-Request-Id") + " " + body);
+                        }))
+                .expectNext("200 request-1 42-balance")
+                .verifyComplete();
+    }
+
+    @Test
+    public void execute_withBody() {
+        Request request = new MockRequest("http://example.ca/accounts", HttpMethod.POST, BodyInserters.fromObject("account"));
+        request.headers().setContentType(MediaType.TEXT_PLAIN);
+
+        StepVerifier.create(requestExecutor.execute(request)
+                        .flatMap(clientResponse -> clientResponse.bodyToMono(String.class).map(body -> clientResponse.statusCode().value() + " " + body)))
+                .expectNext("201 account")
+                .verifyComplete();
+    }
+
+    @Test
+    public void execute_withoutResponseBody() {
+        Request request = new MockRequest("http://example.ca/empty", HttpMethod.GET);
+
+        StepVerifier.create(requestExecutor.execute(request)
+                        .flatMap(clientResponse -> clientResponse.bodyToMono(String.class).defaultIfEmpty(String.valueOf(clientResponse.statusCode().value()))))
+                .expectNext("204")
+                .verifyComplete();
+    }
+
+    @Test
+    public void execute_withHandlerErrorAfterCommit() {
+        HttpHandler httpHandler = (serverRequest, serverResponse) -> serverResponse
+                .writeWith(Mono.just(serverResponse.bufferFactory().wrap("partial".getBytes(StandardCharsets.UTF_8))))
+                .then(Mono.error(new IllegalStateException("handler failed")));
+        RequestExecutor failingRequestExecutor = LoopbackRequestExecutorFactory.of(httpHandler)
+                .build(ExtendedClientCodecConfigurer.create(), null, ClientOptions.empty(), URI.create("http://example.ca"));
+
+        StepVerifier.create(failingRequestExecutor.execute(new MockRequest("http://example.ca/accounts", HttpMethod.GET))
+                        .flatMap(clientResponse -> clientResponse.bodyToMono(String.class)))
+                .verifyErrorMessage("handler failed");
+    }
+
+    @Test
+    public void execute_withoutRoute() {
+        Request request = new MockRequest("http://example.ca/unknown", HttpMethod.GET);
+
+        StepVerifier.create(requestExecutor.execute(request).map(clientResponse -> clientResponse.statusCode()))
+                .expectNext(HttpStatus.NOT_FOUND)
+                .verifyComplete();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.BodyInserters;
 
 import java.net.URI;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,11 +20,15 @@ public class MockRequest implements Request {
     private BodyInserter<?, ? super ClientHttpRequest> bodyInserter;
     
     public MockRequest(String uri, HttpMethod httpMethod) {
+        this(uri, httpMethod, BodyInserters.empty());
+    }
+    
+    public MockRequest(String uri, HttpMethod httpMethod, BodyInserter<?, ? super ClientHttpRequest> bodyInserter) {
         this.uri = URI.create(uri);
         this.httpMethod = httpMethod;
         this.httpHeaders = new HttpHeaders();
         this.variables = new HashMap<>();
-        this.bodyInserter = BodyInserters.empty();
+        this.bodyInserter = bodyInserter;
     }
     
     @Override
@@ -46,6 +51,11 @@ public class MockRequest implements Request {
         return bodyInserter;
     }
     
+    @Override
+    public Map<String, Object> attributes() {
+        return Collections.emptyMap();
+    }
+    
     @Override
     public URI expand() {
         return uri;
@@ -0,0 +1,76 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.DecodingOffload;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+
+public class OffloadingClientHttpResponseTest {
+    private Scheduler scheduler = Schedulers.newSingle("decoding");
+    private DecodingOffload decodingOffload = DecodingOffload.of(scheduler, 8);
+
+    @After
+    public void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    public void getBody_withLargeContentLength() {
+        MockClientHttpResponse response = response("0123456789");
+        response.getHeaders().setContentLength(10);
+
+        StepVerifier.create(lastThread(new OffloadingClientHttpResponse(response, decodingOffload, true)))
+                .expectNextMatches(thread -> thread.startsWith("decoding"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void getBody_withSmallContentLength() {
+        MockClientHttpResponse response = response("0123");
+        response.getHeaders().setContentLength(4);
+
+        StepVerifier.create(lastThread(new OffloadingClientHttpResponse(response, decodingOffload, true)))
+                .expectNext(Thread.currentThread().getName())
+                .verifyComplete();
+    }
+
+    @Test
+    public void getBody_withoutContentLength() {
+        StepVerifier.create(lastThread(new OffloadingClientHttpResponse(response("01234", "56789"), decodingOffload, true)))
+                .expectNextMatches(thread -> thread.startsWith("decoding"))
+                .verifyComplete();
+        StepVerifier.create(lastThread(new OffloadingClientHttpResponse(response("01", "23"), decodingOffload, true)))
+                .expectNext(Thread.currentThread().getName())
+                .verifyComplete();
+    }
+
+    @Test
+    public void getBody_withoutContentLength_streamed() {
+        StepVerifier.create(lastThread(new OffloadingClientHttpResponse(response("01", "23"), decodingOffload, false)))
+                .expectNextMatches(thread -> thread.startsWith("decoding"))
+                .verifyComplete();
+    }
+
+    private static MockClientHttpResponse response(String... chunks) {
+        DefaultDataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+        MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+        response.setBody(Flux.fromArray(chunks).map(chunk -> (DataBuffer) dataBufferFactory.wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        return response;
+    }
+
+    private static Mono<String> lastThread(OffloadingClientHttpResponse response) {
+        return response.getBody()
+                .map(dataBuffer -> Thread.currentThread().getName())
+                .last();
+    }
+}
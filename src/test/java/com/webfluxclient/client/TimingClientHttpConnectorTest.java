@@ -0,0 +1,111 @@
+package com.webfluxclient.client;
+
+import com.webfluxclient.DecodingOffload;
+import com.webfluxclient.ExchangeTimingListener;
+import org.junit.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunctions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimingClientHttpConnectorTest {
+    private List<ExchangeTimings> exchanges = new ArrayList<>();
+    private ExchangeTimingListener exchangeTimingListener = exchanges::add;
+    private DefaultResponseBodyProcessor responseBodyProcessor = new DefaultResponseBodyProcessor(Collections.emptyList());
+    private ClientRequest clientRequest = ClientRequest.method(HttpMethod.GET, URI.create("http://example.ca/accounts")).build();
+
+    @Test
+    public void connect() {
+        ClientHttpConnector connector = (method, uri, requestCallback) -> requestCallback
+                .apply(new MockClientHttpRequest(method, uri))
+                .then(Mono.fromSupplier(() -> {
+                    MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+                    response.setBody("account");
+                    return response;
+                }));
+
+        StepVerifier.create(exchange(connector).flatMap(clientResponse -> clientResponse.bodyToMono(String.class)))
+                .expectNext("account")
+                .verifyComplete();
+
+        assertThat(exchanges).hasSize(1);
+        ExchangeTimings exchangeTimings = exchanges.get(0);
+        for (ExchangePhase exchangePhase : ExchangePhase.values()) {
+            assertThat(exchangeTimings.getDuration(exchangePhase)).isGreaterThanOrEqualTo(0);
+        }
+        assertThat(exchangeTimings.getTotalDuration()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    public void connect_withVoidResponse() {
+        ClientHttpConnector connector = (method, uri, requestCallback) -> requestCallback
+                .apply(new MockClientHttpRequest(method, uri))
+                .then(Mono.fromSupplier(() -> {
+                    MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+                    response.setBody("ignored");
+                    return response;
+                }));
+
+        StepVerifier.create((Mono<?>) responseBodyProcessor.process(exchange(connector), ResolvableType.forClassWithGenerics(Mono.class, Void.class), null))
+                .verifyComplete();
+
+        assertThat(exchanges).hasSize(1);
+        assertThat(exchanges.get(0).getDuration(ExchangePhase.RESPONSE_BODY)).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    public void connect_withDecodingOffload() {
+        ClientHttpConnector connector = (method, uri, requestCallback) -> requestCallback
+                .apply(new MockClientHttpRequest(method, uri))
+                .then(Mono.fromSupplier(() -> {
+                    MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+                    response.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+                    response.setBody("account");
+                    return response;
+                }));
+        Mono<ClientResponse> monoResponse = exchange(connector).publishOn(Schedulers.single());
+
+        StepVerifier.create((Mono<?>) responseBodyProcessor.process(monoResponse, ResolvableType.forClassWithGenerics(Mono.class, String.class), DecodingOffload.of(Schedulers.parallel(), 0)))
+                .expectNext("account")
+                .verifyComplete();
+
+        assertThat(exchanges).hasSize(1);
+        assertThat(exchanges.get(0).getDuration(ExchangePhase.RESPONSE_BODY)).isGreaterThanOrEqualTo(0);
+        assertThat(exchanges.get(0).getTotalDuration()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    public void connect_withError() {
+        ClientHttpConnector connector = (method, uri, requestCallback) -> Mono.error(new IOException("connection refused"));
+
+        StepVerifier.create(exchange(connector))
+                .verifyError(IOException.class);
+
+        assertThat(exchanges).hasSize(1);
+        assertThat(exchanges.get(0).getDuration(ExchangePhase.CONNECTION_ACQUIRE)).isEqualTo(-1);
+        assertThat(exchanges.get(0).getTotalDuration()).isGreaterThanOrEqualTo(0);
+    }
+
+    private Mono<ClientResponse> exchange(ClientHttpConnector connector) {
+        ExchangeFunction exchangeFunction = ExchangeFunctions.create(new TimingClientHttpConnector(connector));
+        return new ExchangeTimingExchangeFilterFunction(exchangeTimingListener).filter(clientRequest, exchangeFunction);
+    }
+}
@@ -0,0 +1,75 @@
+package com.webfluxclient.client;
+
+import org.junit.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import org.springframework.web.reactive.function.BodyExtractor;
+import org.springframework.web.reactive.function.UnsupportedMediaTypeException;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class TypedBodyExtractorsTest {
+    private static final BodyExtractor.Context CONTEXT = new BodyExtractor.Context() {
+        @Override
+        public List<HttpMessageReader<?>> messageReaders() {
+            return ExchangeStrategies.withDefaults().messageReaders();
+        }
+
+        @Override
+        public Optional<ServerHttpResponse> serverResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<String, Object> hints() {
+            return Collections.emptyMap();
+        }
+    };
+
+    @Test
+    public void toFlux_withServerSentEvents() {
+        MockClientHttpResponse response = response(MediaType.TEXT_EVENT_STREAM,
+                "id:1\nevent:created\ndata:{\"name\":\"first\"}\n\n",
+                "id:2\nevent:created\ndata:{\"name\":\"sec", "ond\"}\n\n");
+        ResolvableType elementType = ResolvableType.forClassWithGenerics(ServerSentEvent.class, Account.class);
+
+        StepVerifier.create(TypedBodyExtractors.<ServerSentEvent<Account>>toFlux(elementType).extract(response, CONTEXT))
+                .expectNextMatches(event -> event.id().equals("1") && event.event().equals("created") && event.data().name.equals("first"))
+                .expectNextMatches(event -> event.id().equals("2") && event.data().name.equals("second"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void toFlux_withUnsupportedMediaType() {
+        MockClientHttpResponse response = response(MediaType.valueOf("application/unknown"), "first");
+
+        StepVerifier.create(TypedBodyExtractors.<Account>toFlux(ResolvableType.forClass(Account.class)).extract(response, CONTEXT))
+                .verifyError(UnsupportedMediaTypeException.class);
+    }
+
+    private static MockClientHttpResponse response(MediaType contentType, String... chunks) {
+        DefaultDataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+        MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+        response.getHeaders().setContentType(contentType);
+        response.setBody(Flux.fromArray(chunks).map(chunk -> (DataBuffer) dataBufferFactory.wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        return response;
+    }
+
+    static class Account {
+        public String name;
+    }
+}
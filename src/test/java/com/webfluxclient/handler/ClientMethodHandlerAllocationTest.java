@@ -0,0 +1,147 @@
+package com.webfluxclient.handler;
+
+import com.webfluxclient.client.DefaultRequestExecutor;
+import com.webfluxclient.client.DefaultResponseBodyProcessor;
+import com.webfluxclient.client.RequestExecutor;
+import com.webfluxclient.metadata.MethodMetadata;
+import com.webfluxclient.metadata.MethodMetadataFactory;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.reactive.function.client.ExchangeFunctions;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Bytes allocated by {@link ClientMethodHandler#invoke} and the subscription of its result against an in-memory connector,
+ * checked against the budgets of {@code allocation-budgets.properties}.
+ * A method without a recorded budget fails and reports its measurement.
+ */
+public class ClientMethodHandlerAllocationTest {
+    private static final int WARMUP_INVOCATIONS = 20_000;
+    private static final int MEASURED_INVOCATIONS = 10_000;
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+    private static Properties budgets;
+    private static Map<String, ClientMethodHandler> clientMethodHandlers;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        java.lang.management.ThreadMXBean mxBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(mxBean instanceof com.sun.management.ThreadMXBean);
+        threadMXBean = (com.sun.management.ThreadMXBean) mxBean;
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        budgets = PropertiesLoaderUtils.loadProperties(new ClassPathResource("allocation-budgets.properties"));
+        ClientHttpConnector clientHttpConnector = (method, uri, requestCallback) -> requestCallback
+                .apply(new MockClientHttpRequest(method, uri))
+                .then(Mono.fromSupplier(() -> {
+                    MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+                    response.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+                    response.setBody("account");
+                    return response;
+                }));
+        RequestExecutor requestExecutor = new DefaultRequestExecutor(WebClient.builder()
+                .exchangeFunction(ExchangeFunctions.create(clientHttpConnector))
+                .build());
+        DefaultResponseBodyProcessor responseBodyProcessor = new DefaultResponseBodyProcessor(emptyList());
+        List<MethodMetadata> methodMetadatas = new MethodMetadataFactory().build(AllocationClient.class, URI.create("http://localhost:8080"));
+        clientMethodHandlers = methodMetadatas.stream()
+                .collect(toMap(
+                        methodMetadata -> methodMetadata.getTargetMethod().getName(),
+                        methodMetadata -> new DefaultClientMethodHandler(methodMetadata, requestExecutor, responseBodyProcessor, null, null, null)));
+    }
+
+    @Test
+    public void getTransaction() {
+        assertWithinBudget("getTransaction", new Object[]{"tenant-1", 42L, "42"});
+    }
+
+    @Test
+    public void getAccounts() {
+        assertWithinBudget("getAccounts", new Object[]{"tenant-1", Arrays.asList("id", "balance"), Arrays.asList("OPEN", "CLOSED"), "trace-1"});
+    }
+
+    @Test
+    public void createAccount() {
+        assertWithinBudget("createAccount", new Object[]{"tenant-1", "account"});
+    }
+
+    private void assertWithinBudget(String methodName, Object[] args) {
+        ClientMethodHandler clientMethodHandler = clientMethodHandlers.get(methodName);
+
+        for (int i = 0; i < WARMUP_INVOCATIONS; i++) {
+            exchange(clientMethodHandler, args);
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_INVOCATIONS; i++) {
+            exchange(clientMethodHandler, args);
+        }
+        long bytesPerInvocation = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_INVOCATIONS;
+
+        String budget = budgets.getProperty(methodName);
+        assertThat(budget)
+                .as("allocation budget of %s, measured %d bytes per invocation", methodName, bytesPerInvocation)
+                .isNotNull();
+        assertThat(bytesPerInvocation)
+                .as("bytes allocated per invocation of %s", methodName)
+                .isLessThanOrEqualTo(Long.parseLong(budget));
+    }
+
+    private static void exchange(ClientMethodHandler clientMethodHandler, Object[] args) {
+        Object result = clientMethodHandler.invoke(args);
+        if (result instanceof Mono) {
+            ((Mono<?>) result).block();
+        }
+        else {
+            ((Flux<?>) result).blockLast();
+        }
+    }
+
+    @RequestMapping("/tenants/{tenantId}")
+    interface AllocationClient {
+        @GetMapping("/transactions/{transactionId}")
+        Mono<String> getTransaction(@PathVariable("tenantId") String tenantId,
+                                    @PathVariable("transactionId") Long transactionId,
+                                    @RequestHeader("X-Request-Id") String requestId);
+
+        @GetMapping("/accounts")
+        Flux<String> getAccounts(@PathVariable("tenantId") String tenantId,
+                                 @RequestParam("fields") List<String> fields,
+                                 @RequestParam("status") List<String> statuses,
+                                 @RequestHeader("X-Trace-Id") String traceId);
+
+        @PostMapping("/accounts")
+        Mono<String> createAccount(@PathVariable("tenantId") String tenantId,
+                                   @RequestBody String account);
+    }
+}
@@ -0,0 +1,103 @@
+package com.webfluxclient.handler;
+
+import com.webfluxclient.ClientOptions;
+import com.webfluxclient.annotation.DownloadTo;
+import com.webfluxclient.annotation.RangedDownload;
+import com.webfluxclient.client.DefaultResponseBodyProcessor;
+import com.webfluxclient.client.LoopbackRequestExecutorFactory;
+import com.webfluxclient.client.RequestExecutor;
+import com.webfluxclient.codec.ExtendedClientCodecConfigurer;
+import com.webfluxclient.metadata.MethodMetadata;
+import com.webfluxclient.metadata.MethodMetadataFactory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.HEAD;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+public class DefaultClientMethodHandlerTest {
+    private static final byte[] CONTENT = "0123456789abcdefghijABCDEFGHIJ0123456789".getBytes(StandardCharsets.UTF_8);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private List<String> exchanges = new CopyOnWriteArrayList<>();
+
+    private RouterFunction<ServerResponse> routerFunction = route(
+            HEAD("/artifact"),
+            serverRequest -> ServerResponse.ok()
+                    .contentLength(CONTENT.length)
+                    .header(HttpHeaders.ETAG, "\"v1\"")
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .build())
+            .andRoute(GET("/artifact"), this::get);
+
+    private ExtendedClientCodecConfigurer codecConfigurer = ExtendedClientCodecConfigurer.create();
+    private RequestExecutor loopback = LoopbackRequestExecutorFactory.of(routerFunction)
+            .build(codecConfigurer, null, ClientOptions.empty(), URI.create("http://example.ca"));
+    private RequestExecutor requestExecutor = request -> Mono.defer(() -> {
+        exchanges.add(request.httpMethod() + " " + request.headers().getFirst(HttpHeaders.RANGE));
+        return loopback.execute(request);
+    });
+
+    @Test
+    public void invoke_withRangedDownload() throws Exception {
+        MethodMetadata methodMetadata = new MethodMetadataFactory().build(ArtifactClient.class, URI.create("http://example.ca")).get(0);
+        DefaultClientMethodHandler clientMethodHandler = new DefaultClientMethodHandler(methodMetadata, requestExecutor,
+                new DefaultResponseBodyProcessor(codecConfigurer.getErrorReaders()), null, null, null);
+        Path destination = temporaryFolder.getRoot().toPath().resolve("artifact");
+
+        StepVerifier.create((Mono<?>) clientMethodHandler.invoke(new Object[]{destination}))
+                .expectNext(destination)
+                .verifyComplete();
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        assertThat(exchanges).containsExactlyInAnyOrder(
+                "HEAD null",
+                "GET bytes=0-9",
+                "GET bytes=10-19",
+                "GET bytes=20-29",
+                "GET bytes=30-39");
+    }
+
+    private Mono<ServerResponse> get(ServerRequest serverRequest) {
+        List<HttpRange> httpRanges = serverRequest.headers().range();
+        if (httpRanges.isEmpty()) {
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .syncBody(CONTENT);
+        }
+        long start = httpRanges.get(0).getRangeStart(CONTENT.length);
+        long end = httpRanges.get(0).getRangeEnd(CONTENT.length);
+        return ServerResponse.status(HttpStatus.PARTIAL_CONTENT)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + CONTENT.length)
+                .syncBody(Arrays.copyOfRange(CONTENT, (int) start, (int) end + 1));
+    }
+
+    interface ArtifactClient {
+        @RangedDownload(parts = 4, minPartBytes = 10)
+        @GetMapping("/artifact")
+        Mono<Path> download(@DownloadTo Path destination);
+    }
+}
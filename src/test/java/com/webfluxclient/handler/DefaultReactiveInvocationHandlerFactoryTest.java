@@ -0,0 +1,41 @@
+package com.webfluxclient.handler;
+
+import com.webfluxclient.ClientOptions;
+import com.webfluxclient.Compression;
+import com.webfluxclient.annotation.Compress;
+import com.webfluxclient.codec.ExtendedClientCodecConfigurer;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DefaultReactiveInvocationHandlerFactoryTest {
+    private DefaultReactiveInvocationHandlerFactory invocationHandlerFactory = new DefaultReactiveInvocationHandlerFactory();
+
+    @Test
+    public void build_withCompression() {
+        ClientOptions options = ClientOptions.newBuilder().compression(Compression.gzip(1024)).build();
+
+        assertThat(invocationHandlerFactory.build(ExtendedClientCodecConfigurer.create(), emptyList(), emptyList(), null, null, options, CompressedClient.class, URI.create("http://example.ca")))
+                .isNotNull();
+    }
+
+    @Test
+    public void build_withCompressWithoutCompression() {
+        assertThatThrownBy(() -> invocationHandlerFactory.build(ExtendedClientCodecConfigurer.create(), emptyList(), emptyList(), null, null, ClientOptions.empty(), CompressedClient.class, URI.create("http://example.ca")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("@Compress");
+    }
+
+    interface CompressedClient {
+        @Compress
+        @PostMapping("/events")
+        Mono<Void> send(@RequestBody String event);
+    }
+}
@@ -0,0 +1,120 @@
+package com.webfluxclient.handler;
+
+import com.webfluxclient.LoadSheddingException;
+import com.webfluxclient.client.MockRequest;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.ReflectionUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoadShedderTest {
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long INTERVAL = TimeUnit.HOURS.toNanos(1);
+
+    private Method method = ReflectionUtils.findMethod(TargetOne.class, "methodOne");
+
+    @Test
+    public void shouldShed_withSojournAboveTargetForAnInterval() {
+        LoadShedder loadShedder = new LoadShedder(method, TARGET, INTERVAL);
+        long start = System.nanoTime();
+
+        dispatch(loadShedder, TARGET * 2, start + 1);
+        dispatch(loadShedder, TARGET * 3, start + INTERVAL);
+
+        assertThat(loadShedder.shouldShed(start + INTERVAL + 1))
+                .isTrue();
+    }
+
+    @Test
+    public void shouldShed_beforeTheEndOfTheInterval() {
+        LoadShedder loadShedder = new LoadShedder(method, TARGET, INTERVAL);
+        long start = System.nanoTime();
+
+        dispatch(loadShedder, TARGET * 2, start + 1);
+
+        assertThat(loadShedder.shouldShed(start + 2))
+                .isFalse();
+    }
+
+    @Test
+    public void shouldShed_withOneSojournBelowTarget() {
+        LoadShedder loadShedder = new LoadShedder(method, TARGET, INTERVAL);
+        long start = System.nanoTime();
+
+        dispatch(loadShedder, TARGET * 2, start + 1);
+        dispatch(loadShedder, TARGET / 2, start + 2);
+        dispatch(loadShedder, TARGET * 2, start + INTERVAL);
+
+        assertThat(loadShedder.shouldShed(start + INTERVAL + 1))
+                .isFalse();
+    }
+
+    @Test
+    public void shouldShed_recoversWhenTheQueueDrains() {
+        LoadShedder loadShedder = overloadedLoadShedder();
+        long start = System.nanoTime();
+
+        assertThat(loadShedder.getQueuedCount())
+                .isEqualTo(0);
+        assertThat(loadShedder.shouldShed(start + 2 * INTERVAL + 1))
+                .isFalse();
+    }
+
+    @Test
+    public void shouldShed_whileCallsAreQueued() {
+        LoadShedder loadShedder = overloadedLoadShedder();
+        long start = System.nanoTime();
+
+        loadShedder.onEnqueue();
+
+        assertThat(loadShedder.shouldShed(start + 2 * INTERVAL + 1))
+                .isTrue();
+    }
+
+    @Test
+    public void execute_whenOverloaded() {
+        LoadShedder loadShedder = overloadedLoadShedder();
+
+        StepVerifier.create(loadShedder.execute(new MockRequest("http://example.ca", HttpMethod.GET), request -> Mono.error(new IllegalStateException())))
+                .verifyError(LoadSheddingException.class);
+
+        assertThat(loadShedder.getRejectedCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void execute() {
+        LoadShedder loadShedder = new LoadShedder(method, TARGET, INTERVAL);
+
+        StepVerifier.create(loadShedder.execute(new MockRequest("http://example.ca", HttpMethod.GET), request -> Mono.empty()))
+                .verifyComplete();
+
+        assertThat(loadShedder.getRejectedCount())
+                .isEqualTo(0);
+        assertThat(loadShedder.getQueuedCount())
+                .isEqualTo(0);
+    }
+
+    private LoadShedder overloadedLoadShedder() {
+        LoadShedder loadShedder = new LoadShedder(method, TARGET, INTERVAL);
+        long start = System.nanoTime();
+        dispatch(loadShedder, TARGET * 2, start + INTERVAL);
+        return loadShedder;
+    }
+
+    private static void dispatch(LoadShedder loadShedder, long sojournNanos, long now) {
+        loadShedder.onEnqueue();
+        loadShedder.onDispatch(sojournNanos, now);
+    }
+
+    private class TargetOne {
+        public void methodOne() {
+        }
+    }
+}
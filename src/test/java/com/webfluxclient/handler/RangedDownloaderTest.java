@@ -0,0 +1,197 @@
+package com.webfluxclient.handler;
+
+import com.webfluxclient.ClientOptions;
+import com.webfluxclient.EntityChangedException;
+import com.webfluxclient.client.DefaultResponseBodyProcessor;
+import com.webfluxclient.client.LoopbackRequestExecutorFactory;
+import com.webfluxclient.client.MockRequest;
+import com.webfluxclient.client.RequestExecutor;
+import com.webfluxclient.codec.ExtendedClientCodecConfigurer;
+import com.webfluxclient.metadata.DownloadSplitting;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.HEAD;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+public class RangedDownloaderTest {
+    private static final byte[] CONTENT = "0123456789abcdefghijABCDEFGHIJ0123456789".getBytes(StandardCharsets.UTF_8);
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private List<String> ranges = new CopyOnWriteArrayList<>();
+    private Set<Long> failedOnce = ConcurrentHashMap.newKeySet();
+    private Set<Long> changed = ConcurrentHashMap.newKeySet();
+    private List<String> ifRanges = new CopyOnWriteArrayList<>();
+    private boolean acceptRanges = true;
+    private String entityTag = "\"v1\"";
+    private String lastModified;
+
+    private RouterFunction<ServerResponse> routerFunction = route(
+            HEAD("/artifact"),
+            serverRequest -> {
+                ServerResponse.BodyBuilder response = ServerResponse.ok()
+                        .contentLength(CONTENT.length);
+                if (entityTag != null) {
+                    response.header(HttpHeaders.ETAG, entityTag);
+                }
+                if (lastModified != null) {
+                    response.header(HttpHeaders.LAST_MODIFIED, lastModified);
+                }
+                if (acceptRanges) {
+                    response.header(HttpHeaders.ACCEPT_RANGES, "bytes");
+                }
+                return response.build();
+            })
+            .andRoute(GET("/artifact"), this::get);
+
+    private ExtendedClientCodecConfigurer codecConfigurer = ExtendedClientCodecConfigurer.create();
+    private RequestExecutor requestExecutor = LoopbackRequestExecutorFactory.of(routerFunction)
+            .build(codecConfigurer, null, ClientOptions.empty(), URI.create("http://example.ca"));
+    private RangedDownloader rangedDownloader = new RangedDownloader(
+            requestExecutor::execute,
+            new DefaultResponseBodyProcessor(codecConfigurer.getErrorReaders()),
+            DownloadSplitting.of(4, 10, 2));
+
+    @Test
+    public void download() throws Exception {
+        Path destination = temporaryFolder.getRoot().toPath().resolve("artifact");
+
+        StepVerifier.create(rangedDownloader.download(new MockRequest("http://example.ca/artifact", HttpMethod.GET), destination))
+                .expectNext(destination)
+                .verifyComplete();
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        assertThat(ranges).containsExactlyInAnyOrder("0-9", "10-19", "20-29", "30-39");
+        assertThat(destination.resolveSibling("artifact.ranges")).doesNotExist();
+    }
+
+    @Test
+    public void download_retriesFailedRange() throws Exception {
+        Path destination = temporaryFolder.getRoot().toPath().resolve("artifact");
+        failedOnce.add(20L);
+
+        StepVerifier.create(rangedDownloader.download(new MockRequest("http://example.ca/artifact", HttpMethod.GET), destination))
+                .expectNext(destination)
+                .verifyComplete();
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        assertThat(ranges).containsExactlyInAnyOrder("0-9", "10-19", "20-29", "20-29", "30-39");
+    }
+
+    @Test
+    public void download_withChangedEntity() {
+        Path destination = temporaryFolder.getRoot().toPath().resolve("artifact");
+        changed.add(20L);
+
+        StepVerifier.create(rangedDownloader.download(new MockRequest("http://example.ca/artifact", HttpMethod.GET), destination))
+                .verifyError(EntityChangedException.class);
+        assertThat(ranges).containsOnlyOnce("20-29");
+    }
+
+    @Test
+    public void download_resumesCompletedRanges() throws Exception {
+        Path destination = temporaryFolder.getRoot().toPath().resolve("artifact");
+        Files.write(destination, Arrays.copyOf(CONTENT, 20));
+        Files.write(destination.resolveSibling("artifact.ranges"), "40 \"v1\"\n0\n10\n".getBytes(StandardCharsets.UTF_8));
+
+        StepVerifier.create(rangedDownloader.download(new MockRequest("http://example.ca/artifact", HttpMethod.GET), destination))
+                .expectNext(destination)
+                .verifyComplete();
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        assertThat(ranges).containsExactlyInAnyOrder("20-29", "30-39");
+    }
+
+    @Test
+    public void download_resumesWithLastModified() throws Exception {
+        Path destination = temporaryFolder.getRoot().toPath().resolve("artifact");
+        entityTag = "W/\"v1\"";
+        lastModified = LAST_MODIFIED;
+        Files.write(destination, Arrays.copyOf(CONTENT, 20));
+        Files.write(destination.resolveSibling("artifact.ranges"), ("40 " + LAST_MODIFIED + "\n0\n10\n").getBytes(StandardCharsets.UTF_8));
+
+        StepVerifier.create(rangedDownloader.download(new MockRequest("http://example.ca/artifact", HttpMethod.GET), destination))
+                .expectNext(destination)
+                .verifyComplete();
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        assertThat(ranges).containsExactlyInAnyOrder("20-29", "30-39");
+        assertThat(ifRanges).containsOnly(LAST_MODIFIED);
+    }
+
+    @Test
+    public void download_withoutValidator() throws Exception {
+        Path destination = temporaryFolder.getRoot().toPath().resolve("artifact");
+        entityTag = null;
+        Files.write(destination, Arrays.copyOf(CONTENT, 20));
+        Files.write(destination.resolveSibling("artifact.ranges"), "40 null\n0\n10\n".getBytes(StandardCharsets.UTF_8));
+
+        StepVerifier.create(rangedDownloader.download(new MockRequest("http://example.ca/artifact", HttpMethod.GET), destination))
+                .expectNext(destination)
+                .verifyComplete();
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        assertThat(ranges).containsExactlyInAnyOrder("0-9", "10-19", "20-29", "30-39");
+        assertThat(ifRanges).isEmpty();
+        assertThat(destination.resolveSibling("artifact.ranges")).doesNotExist();
+    }
+
+    @Test
+    public void download_withoutRangeSupport() throws Exception {
+        Path destination = temporaryFolder.getRoot().toPath().resolve("artifact");
+        acceptRanges = false;
+
+        StepVerifier.create(rangedDownloader.download(new MockRequest("http://example.ca/artifact", HttpMethod.GET), destination))
+                .expectNext(destination)
+                .verifyComplete();
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        assertThat(ranges).containsExactly("full");
+    }
+
+    private Mono<ServerResponse> get(ServerRequest serverRequest) {
+        List<HttpRange> httpRanges = serverRequest.headers().range();
+        if (httpRanges.isEmpty()) {
+            ranges.add("full");
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .syncBody(CONTENT);
+        }
+        long start = httpRanges.get(0).getRangeStart(CONTENT.length);
+        long end = httpRanges.get(0).getRangeEnd(CONTENT.length);
+        ranges.add(start + "-" + end);
+        serverRequest.headers().header(HttpHeaders.IF_RANGE).forEach(ifRanges::add);
+        if (failedOnce.remove(start)) {
+            return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        if (changed.contains(start)) {
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .syncBody(CONTENT);
+        }
+        return ServerResponse.status(HttpStatus.PARTIAL_CONTENT)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + CONTENT.length)
+                .syncBody(Arrays.copyOfRange(CONTENT, (int) start, (int) end + 1));
+    }
+}
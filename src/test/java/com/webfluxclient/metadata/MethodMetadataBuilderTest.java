@@ -36,6 +36,17 @@ public class MethodMetadataBuilderTest {
                 .isEqualTo(URI.create("http://localhost:8080/api/users/123/contact"));
     }
 
+    @Test
+    public void addPath_withDomainSocketUri() {
+        RequestTemplate requestTemplate = MethodMetadata.newBuilder(URI.create("unix:///var/run/sidecar.sock"))
+                .addPath("/api/{id}")
+                .build()
+                .getRequestTemplate();
+
+        assertThat(requestTemplate.getUriBuilder().build(Collections.singletonMap("id", 132)))
+                .isEqualTo(URI.create("http://localhost/api/132"));
+    }
+
     @Test
     public void addQueryParam() {
         RequestTemplate requestTemplate = MethodMetadata.newBuilder(URI.create("http://localhost:8080"))
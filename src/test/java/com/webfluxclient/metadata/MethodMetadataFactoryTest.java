@@ -1,15 +1,25 @@
 package com.webfluxclient.metadata;
 
+import com.webfluxclient.annotation.DownloadTo;
+import com.webfluxclient.annotation.OffloadDecoding;
+import com.webfluxclient.annotation.Compress;
+import com.webfluxclient.annotation.NdjsonBody;
+import com.webfluxclient.annotation.Prefetch;
+import com.webfluxclient.annotation.RangedDownload;
 import com.webfluxclient.metadata.request.RequestHeader.BasicRequestHeader;
 import com.webfluxclient.metadata.request.RequestTemplate;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.type.StandardAnnotationMetadata;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.List;
 
@@ -57,6 +67,37 @@ public class MethodMetadataFactoryTest {
                 .isEqualTo(URI.create("http://localhost:8080/api/parent/child"));
     }
 
+    @Test
+    public void processRootMethodMetadata_withDomainSocketUri() {
+        RequestTemplate requestTemplate = methodMetadataFactory.processTarget(ChildReactiveClient.class, URI.create("unix:///var/run/sidecar.sock")).getRequestTemplate();
+        assertThat(requestTemplate.getUriBuilder().build())
+                .isEqualTo(URI.create("http://localhost/parent/child"));
+    }
+
+    @Test
+    public void processOffloadDecodingAnnotation() {
+        MethodMetadata.Builder requestTemplateBuilder = MethodMetadata.newBuilder(URI.create(""));
+        methodMetadataFactory.processOffloadDecodingAnnotation(new StandardAnnotationMetadata(OffloadedClient.class), requestTemplateBuilder);
+        assertThat(requestTemplateBuilder.build().getDecodingThreshold())
+                .isEqualTo(1024L);
+    }
+
+    @Test
+    public void processPrefetchAnnotation() {
+        MethodMetadata.Builder requestTemplateBuilder = MethodMetadata.newBuilder(URI.create(""));
+        methodMetadataFactory.processPrefetchAnnotation(new StandardAnnotationMetadata(PrefetchedClient.class), requestTemplateBuilder);
+        assertThat(requestTemplateBuilder.build().getPrefetch())
+                .isEqualTo(16);
+    }
+
+    @Test
+    public void processCompressAnnotation() {
+        MethodMetadata.Builder requestTemplateBuilder = MethodMetadata.newBuilder(URI.create(""));
+        methodMetadataFactory.processCompressAnnotation(new StandardAnnotationMetadata(CompressedClient.class), requestTemplateBuilder);
+        assertThat(requestTemplateBuilder.build().getCompressionThreshold())
+                .isEqualTo(2048L);
+    }
+
     @Test
     public void parsePath() {
         MethodMetadata.Builder requestTemplateBuilder = MethodMetadata.newBuilder(URI.create("http://localhost:8080"));
@@ -171,6 +212,54 @@ public class MethodMetadataFactoryTest {
                         new SimpleEntry<>(1, "requestHeader2"));
     }
 
+    @Test
+    public void parameterAnnotationProcessing_withDownloadTo() {
+        List<MethodMetadata> visit = methodMetadataFactory.build(ReactiveClientWithDownload.class, URI.create(""));
+        assertThat(visit)
+                .hasSize(1);
+        MethodMetadata requestTemplate = visit.get(0);
+        assertThat(requestTemplate.getDownloadIndex())
+                .isEqualTo(1);
+        assertThat(requestTemplate.getRequestTemplate().getBodyIndex())
+                .isNull();
+    }
+
+    @Test
+    public void build_withNdjsonBody() {
+        List<MethodMetadata> visit = methodMetadataFactory.build(ReactiveClientWithNdjsonBody.class, URI.create(""));
+        assertThat(visit.get(0).getRequestTemplate().getWriteCoalescing())
+                .isNotNull();
+    }
+
+    @Test
+    public void build_withNdjsonBodyOnNonPublisher() {
+        assertThatThrownBy(() -> methodMetadataFactory.build(ReactiveClientWithNdjsonObjectBody.class, URI.create("")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("@NdjsonBody requires a Publisher body");
+    }
+
+    @Test
+    public void build_withRangedDownloadWithoutDownloadTo() {
+        assertThatThrownBy(() -> methodMetadataFactory.build(ReactiveClientWithRangedDownloadWithoutDownloadTo.class, URI.create("")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("@RangedDownload requires a @DownloadTo parameter");
+    }
+
+    @Test
+    public void build_withDownloadToReturningVoid() {
+        List<MethodMetadata> visit = methodMetadataFactory.build(ReactiveClientWithVoidDownload.class, URI.create(""));
+        assertThat(visit)
+                .extracting(MethodMetadata::getDownloadIndex)
+                .containsOnly(0);
+    }
+
+    @Test
+    public void build_withDownloadToReturningBody() {
+        assertThatThrownBy(() -> methodMetadataFactory.build(ReactiveClientWithBodyDownload.class, URI.create("")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("a @DownloadTo method must return Mono<Path>, Mono<Void>, Path or void");
+    }
+
     @Test
     public void parameterAnnotationProcessing_withRequestAndPathParameters() {
         List<MethodMetadata> visit = methodMetadataFactory.build(ReactiveClientWithRequestAndPathParameters.class, URI.create(""));
@@ -222,4 +311,45 @@ public class MethodMetadataFactoryTest {
     interface ReactiveClientWithRequestAndPathParameters {
         void testRequestParameterAndPathVariable(@RequestParam("requestParameter1") String requestParameter1, @PathVariable("pathVariable1") String pathVariable1);
     }
-}
\ No newline at end of file
+
+    interface ReactiveClientWithDownload {
+        Mono<Path> download(@PathVariable("artifactId") String artifactId, @DownloadTo Path destination);
+    }
+
+    interface ReactiveClientWithVoidDownload {
+        Mono<Void> download(@DownloadTo Path destination);
+
+        void downloadBlocking(@DownloadTo Path destination);
+    }
+
+    interface ReactiveClientWithBodyDownload {
+        Mono<String> download(@DownloadTo Path destination);
+    }
+
+    interface ReactiveClientWithRangedDownloadWithoutDownloadTo {
+        @RangedDownload
+        Mono<Void> download(Path destination);
+    }
+
+    interface ReactiveClientWithNdjsonBody {
+        @NdjsonBody
+        Mono<Void> upload(Flux<String> items);
+    }
+
+    interface ReactiveClientWithNdjsonObjectBody {
+        @NdjsonBody
+        Mono<Void> upload(String item);
+    }
+
+    @OffloadDecoding(thresholdBytes = 1024)
+    interface OffloadedClient {
+    }
+
+    @Prefetch(16)
+    interface PrefetchedClient {
+    }
+
+    @Compress(thresholdBytes = 2048)
+    interface CompressedClient {
+    }
+}
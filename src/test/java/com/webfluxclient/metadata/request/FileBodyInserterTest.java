@@ -0,0 +1,79 @@
+package com.webfluxclient.metadata.request;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class FileBodyInserterTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void insert_withZeroCopyRequest() throws Exception {
+        File file = file("report.json", "{\"total\":42}");
+        ZeroCopyClientHttpRequest request = new ZeroCopyClientHttpRequest();
+
+        StepVerifier.create(FileBodyInserter.fromFile(file).insert(request, mock(BodyInserter.Context.class)))
+                .verifyComplete();
+        assertThat(request.file).isEqualTo(file);
+        assertThat(request.count).isEqualTo(12);
+        assertThat(request.getHeaders().getContentLength()).isEqualTo(12);
+        assertThat(request.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    public void insert_withChunkedReads() throws Exception {
+        StringBuilder content = new StringBuilder();
+        while (content.length() < 3 * FileBodyInserter.BUFFER_SIZE) {
+            content.append("0123456789");
+        }
+        File file = file("artifact", content.toString());
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.PUT, URI.create("http://example.ca/artifacts/1"));
+        request.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+
+        StepVerifier.create(FileBodyInserter.fromFile(file).insert(request, mock(BodyInserter.Context.class)))
+                .verifyComplete();
+        StepVerifier.create(request.getBodyAsString())
+                .expectNext(content.toString())
+                .verifyComplete();
+        assertThat(request.getHeaders().getContentLength()).isEqualTo(content.length());
+        assertThat(request.getHeaders().getContentType()).isEqualTo(MediaType.TEXT_PLAIN);
+    }
+
+    private File file(String name, String content) throws Exception {
+        File file = temporaryFolder.newFile(name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static class ZeroCopyClientHttpRequest extends MockClientHttpRequest implements ZeroCopyHttpOutputMessage {
+        private File file;
+        private long count;
+
+        ZeroCopyClientHttpRequest() {
+            super(HttpMethod.POST, URI.create("http://example.ca/reports"));
+        }
+
+        @Override
+        public Mono<Void> writeWith(File file, long position, long count) {
+            this.file = file;
+            this.count = count;
+            return Mono.empty();
+        }
+    }
+}
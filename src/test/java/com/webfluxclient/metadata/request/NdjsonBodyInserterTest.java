@@ -0,0 +1,103 @@
+package com.webfluxclient.metadata.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.webfluxclient.utils.DataBuffers;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NdjsonBodyInserterTest {
+    private ObjectWriter objectWriter = new ObjectMapper().writer();
+    private DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    @Test
+    public void coalesce_bySize() {
+        Flux<String> chunks = NdjsonBodyInserter.coalesce(Flux.range(1, 7).map(Item::new), objectWriter, bufferFactory, WriteCoalescing.of(20, Duration.ofSeconds(10)), Schedulers.parallel())
+                .map(DataBuffers::readToString);
+
+        StepVerifier.create(chunks)
+                .expectNext("{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n")
+                .expectNext("{\"id\":4}\n{\"id\":5}\n{\"id\":6}\n")
+                .expectNext("{\"id\":7}\n")
+                .verifyComplete();
+    }
+
+    @Test
+    public void coalesce_byDelay() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        Flux<Item> items = Flux.just(new Item(1), new Item(2)).concatWith(Flux.never());
+        Flux<String> chunks = NdjsonBodyInserter.coalesce(items, objectWriter, bufferFactory, WriteCoalescing.of(1024, Duration.ofMillis(10)), scheduler)
+                .map(DataBuffers::readToString);
+
+        StepVerifier.create(chunks)
+                .expectSubscription()
+                .then(() -> scheduler.advanceTimeBy(Duration.ofMillis(10)))
+                .expectNext("{\"id\":1}\n{\"id\":2}\n")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    public void coalesce_withoutDemand() {
+        AtomicLong requested = new AtomicLong();
+        Flux<Item> items = Flux.range(1, 1000)
+                .map(Item::new)
+                .doOnRequest(requested::addAndGet);
+        Flux<String> chunks = NdjsonBodyInserter.coalesce(items, objectWriter, bufferFactory, WriteCoalescing.of(20, Duration.ofSeconds(10)), Schedulers.parallel())
+                .map(DataBuffers::readToString);
+
+        StepVerifier.create(chunks, 0)
+                .expectSubscription()
+                .then(() -> assertThat(requested.get()).isEqualTo(3))
+                .thenRequest(1)
+                .expectNext("{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n")
+                .then(() -> assertThat(requested.get()).isEqualTo(6))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    public void coalesce_emitsOutsideOfTheLock() {
+        List<Boolean> lockHeld = new ArrayList<>();
+        NdjsonBodyInserter.coalesce(Flux.range(1, 7).map(Item::new), objectWriter, bufferFactory, WriteCoalescing.of(20, Duration.ofSeconds(10)), Schedulers.parallel())
+                .subscribe(new BaseSubscriber<DataBuffer>() {
+                    @Override
+                    protected void hookOnSubscribe(Subscription subscription) {
+                        request(1);
+                    }
+
+                    @Override
+                    protected void hookOnNext(DataBuffer dataBuffer) {
+                        lockHeld.add(Thread.holdsLock(upstream()));
+                        DataBufferUtils.release(dataBuffer);
+                        request(1);
+                    }
+                });
+
+        assertThat(lockHeld)
+                .containsExactly(false, false, false);
+    }
+
+    static class Item {
+        public int id;
+
+        Item(int id) {
+            this.id = id;
+        }
+    }
+}
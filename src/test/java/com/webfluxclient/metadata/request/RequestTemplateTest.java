@@ -0,0 +1,93 @@
+package com.webfluxclient.metadata.request;
+
+import com.webfluxclient.metadata.MethodMetadata;
+import com.webfluxclient.metadata.MethodMetadataFactory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestTemplateTest {
+    private static final BodyInserter.Context CONTEXT = new BodyInserter.Context() {
+        @Override
+        public List<HttpMessageWriter<?>> messageWriters() {
+            return ExchangeStrategies.withDefaults().messageWriters();
+        }
+
+        @Override
+        public Optional<ServerHttpRequest> serverRequest() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<String, Object> hints() {
+            return Collections.emptyMap();
+        }
+    };
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void apply_withPathBody() throws Exception {
+        Path artifact = temporaryFolder.newFile("report.json").toPath();
+        Files.write(artifact, "{\"total\":42}".getBytes(StandardCharsets.UTF_8));
+
+        MockClientHttpRequest request = insert("upload", artifact);
+
+        StepVerifier.create(request.getBodyAsString())
+                .expectNext("{\"total\":42}")
+                .verifyComplete();
+        assertThat(request.getHeaders().getContentLength()).isEqualTo(12);
+    }
+
+    @Test
+    public void apply_withPathLocationBody() throws Exception {
+        Path artifact = temporaryFolder.newFile("report.json").toPath();
+
+        MockClientHttpRequest request = insert("register", artifact.toUri());
+
+        StepVerifier.create(request.getBodyAsString())
+                .expectNext("\"" + artifact.toUri() + "\"")
+                .verifyComplete();
+    }
+
+    private MockClientHttpRequest insert(String methodName, Object body) {
+        MethodMetadata methodMetadata = new MethodMetadataFactory().build(ArtifactClient.class, URI.create("http://example.ca")).stream()
+                .filter(metadata -> metadata.getTargetMethod().getName().equals(methodName))
+                .findFirst()
+                .orElseThrow(IllegalArgumentException::new);
+        Request request = methodMetadata.getRequestTemplate().apply(new Object[]{body});
+        MockClientHttpRequest clientHttpRequest = new MockClientHttpRequest(HttpMethod.PUT, URI.create("http://example.ca/artifacts"));
+        StepVerifier.create(request.bodyInserter().insert(clientHttpRequest, CONTEXT))
+                .verifyComplete();
+        return clientHttpRequest;
+    }
+
+    interface ArtifactClient {
+        @PutMapping("/artifacts")
+        Mono<Void> upload(Path artifact);
+
+        @PutMapping("/artifacts")
+        Mono<Void> register(URI artifact);
+    }
+}
@@ -0,0 +1,68 @@
+package com.webfluxclient.metrics;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyRecorderTest {
+
+    @Test
+    public void bucketIndex_withSmallValues() {
+        assertThat(LatencyRecorder.bucketIndex(0)).isEqualTo(0);
+        assertThat(LatencyRecorder.bucketIndex(63)).isEqualTo(63);
+        assertThat(LatencyRecorder.highestValueAt(63)).isEqualTo(63);
+    }
+
+    @Test
+    public void bucketIndex_withLargeValues() {
+        assertThat(LatencyRecorder.bucketIndex(Long.MAX_VALUE))
+                .isEqualTo(LatencyRecorder.BUCKET_COUNT - 1);
+        assertThat(LatencyRecorder.highestValueAt(LatencyRecorder.bucketIndex(1_000_000)))
+                .isBetween(1_000_000L, 1_031_250L);
+    }
+
+    @Test
+    public void intervalSnapshot() {
+        LatencyRecorder latencyRecorder = new LatencyRecorder();
+        for (long value = 1; value <= 1000; value++) {
+            latencyRecorder.record(value * 1000);
+        }
+
+        LatencySnapshot snapshot = latencyRecorder.intervalSnapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getMax()).isEqualTo(1_000_000);
+        assertThat(snapshot.getMean()).isEqualTo(500_500);
+        assertThat((double) snapshot.getValueAtPercentile(50)).isCloseTo(500_000, within(500_000 * 0.04));
+        assertThat((double) snapshot.getValueAtPercentile(99)).isCloseTo(990_000, within(990_000 * 0.04));
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(1_000_000);
+    }
+
+    @Test
+    public void intervalSnapshot_withBoundaryValues() {
+        LatencyRecorder latencyRecorder = new LatencyRecorder();
+        latencyRecorder.record(0);
+        latencyRecorder.record(Long.MAX_VALUE);
+
+        LatencySnapshot snapshot = latencyRecorder.intervalSnapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(2);
+        assertThat(snapshot.getValueAtPercentile(50)).isEqualTo(0);
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void intervalSnapshot_resetBetweenIntervals() {
+        LatencyRecorder latencyRecorder = new LatencyRecorder();
+        latencyRecorder.record(10);
+        latencyRecorder.intervalSnapshot();
+        latencyRecorder.record(20);
+
+        LatencySnapshot snapshot = latencyRecorder.intervalSnapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(1);
+        assertThat(snapshot.getMax()).isEqualTo(20);
+        assertThat(latencyRecorder.intervalSnapshot().getCount()).isEqualTo(0);
+    }
+}
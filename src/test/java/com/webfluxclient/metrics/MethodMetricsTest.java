@@ -0,0 +1,62 @@
+package com.webfluxclient.metrics;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MethodMetricsTest {
+    @Mock
+    private ClientResponse clientResponse;
+
+    private MethodMetrics methodMetrics = ClientMetrics.create().methodMetrics(ReflectionUtils.findMethod(TargetOne.class, "methodOne"));
+
+    @Test
+    public void record() {
+        when(clientResponse.statusCode()).thenReturn(HttpStatus.NOT_FOUND);
+
+        StepVerifier.create(methodMetrics.record(Mono.just(clientResponse)))
+                .expectNext(clientResponse)
+                .verifyComplete();
+
+        assertThat(methodMetrics.getCount(HttpStatus.Series.CLIENT_ERROR)).isEqualTo(1);
+        assertThat(methodMetrics.getCount(HttpStatus.Series.SUCCESSFUL)).isEqualTo(0);
+        assertThat(methodMetrics.getInFlight()).isEqualTo(0);
+        assertThat(methodMetrics.intervalLatency().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void record_withError() {
+        StepVerifier.create(methodMetrics.record(Mono.error(new IOException())))
+                .verifyError(IOException.class);
+
+        assertThat(methodMetrics.getErrorCount()).isEqualTo(1);
+        assertThat(methodMetrics.getInFlight()).isEqualTo(0);
+        assertThat(methodMetrics.intervalLatency().getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void record_inFlight() {
+        MonoProcessor<ClientResponse> response = MonoProcessor.create();
+        methodMetrics.record(response).subscribe();
+
+        assertThat(methodMetrics.getInFlight()).isEqualTo(1);
+    }
+
+    private class TargetOne {
+        public void methodOne() {
+        }
+    }
+}
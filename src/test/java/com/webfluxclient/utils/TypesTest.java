@@ -4,6 +4,8 @@ import org.junit.Test;
 import org.springframework.core.ResolvableType;
 import org.springframework.util.MultiValueMap;
 
+import java.io.File;
+import java.nio.file.Path;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,6 +26,14 @@ public class TypesTest {
                 .isFalse();
     }
 
+    @Test
+    public void isPath() {
+        assertThat(Types.isPath(ResolvableType.forClass(Path.class)))
+                .isTrue();
+        assertThat(Types.isPath(ResolvableType.forClass(File.class)))
+                .isFalse();
+    }
+
     @Test
     public void isFormData_withWrongGeneric() {
         ResolvableType resolvableType = ResolvableType.forClassWithGenerics(MultiValueMap.class, String.class, Integer.class);